@@ -1,8 +1,10 @@
 package io.vanillabp.camunda7;
 
 import io.vanillabp.camunda7.deployment.Camunda7DeploymentAdapter;
+import io.vanillabp.camunda7.deployment.LatestProcessDefinitionCache;
 import io.vanillabp.camunda7.service.Camunda7ProcessService;
 import io.vanillabp.camunda7.service.jobs.startprocess.StartProcessJobHandler;
+import io.vanillabp.camunda7.service.jobs.startprocess.StartProcessesJobHandler;
 import io.vanillabp.camunda7.wiring.Camunda7TaskWiring;
 import io.vanillabp.camunda7.wiring.Camunda7TaskWiringPlugin;
 import io.vanillabp.camunda7.wiring.Camunda7UserTaskEventHandler;
@@ -88,7 +90,8 @@ public class Camunda7AdapterConfiguration extends AdapterConfigurationBase<Camun
     public Camunda7DeploymentAdapter camunda7DeploymentAdapter(
             final SpringProcessApplication processApplication,
             final ProcessEngine processEngine,
-            final Camunda7TaskWiring taskWiring) {
+            final Camunda7TaskWiring taskWiring,
+            final LatestProcessDefinitionCache latestProcessDefinitionCache) {
 
         return new Camunda7DeploymentAdapter(
                 properties,
@@ -96,7 +99,8 @@ public class Camunda7AdapterConfiguration extends AdapterConfigurationBase<Camun
                 processApplication,
                 applicationName,
                 taskWiring,
-                processEngine);
+                processEngine,
+                latestProcessDefinitionCache);
 
     }
     
@@ -216,9 +220,23 @@ public class Camunda7AdapterConfiguration extends AdapterConfigurationBase<Camun
     }
 
     @Bean
-    public StartProcessJobHandler startProcessJobHandler() {
+    public LatestProcessDefinitionCache latestProcessDefinitionCache() {
+
+        return new LatestProcessDefinitionCache();
+    }
+
+    @Bean
+    public StartProcessJobHandler startProcessJobHandler(
+            final LatestProcessDefinitionCache latestProcessDefinitionCache) {
+
+        return new StartProcessJobHandler(latestProcessDefinitionCache);
+    }
+
+    @Bean
+    public StartProcessesJobHandler startProcessesJobHandler(
+            final LatestProcessDefinitionCache latestProcessDefinitionCache) {
 
-        return new StartProcessJobHandler();
+        return new StartProcessesJobHandler(latestProcessDefinitionCache);
     }
 
     @Bean
@@ -4,6 +4,7 @@ import io.vanillabp.springboot.adapter.VanillaBpProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.util.StringUtils;
 
+import java.util.List;
 import java.util.Map;
 
 @ConfigurationProperties(prefix = VanillaBpProperties.PREFIX, ignoreUnknownFields = true)
@@ -13,6 +14,8 @@ public class Camunda7VanillaBpProperties {
 
     private static final boolean DEFAULT_USETENANT = true;
 
+    private static final boolean DEFAULT_WIREACTIVEVERSIONSONLY = false;
+
     private Map<String, WorkflowModuleAdapterProperties> workflowModules = Map.of();
 
     public Map<String, WorkflowModuleAdapterProperties> getWorkflowModules() {
@@ -48,6 +51,28 @@ public class Camunda7VanillaBpProperties {
 
     }
 
+    public Map<String, JobExecutorLaneProperties> getJobExecutorLanes(
+            final String workflowModuleId) {
+
+        return workflowModules
+                .getOrDefault(workflowModuleId, defaultProperties)
+                .getAdapters()
+                .getOrDefault(Camunda7AdapterConfiguration.ADAPTER_ID, defaultAdapterProperties)
+                .getJobExecutorLanes();
+
+    }
+
+    public boolean isWireActiveVersionsOnly(
+            final String workflowModuleId) {
+
+        return workflowModules
+                .getOrDefault(workflowModuleId, defaultProperties)
+                .getAdapters()
+                .getOrDefault(Camunda7AdapterConfiguration.ADAPTER_ID, defaultAdapterProperties)
+                .isWireActiveVersionsOnly();
+
+    }
+
     public boolean useBpmnAsyncDefinitions(
             final String workflowModuleId,
             final String bpmnProcessId) {
@@ -79,6 +104,26 @@ public class Camunda7VanillaBpProperties {
 
         private String tenantId;
 
+        private Map<String, JobExecutorLaneProperties> jobExecutorLanes = Map.of();
+
+        private boolean wireActiveVersionsOnly = DEFAULT_WIREACTIVEVERSIONSONLY;
+
+        public boolean isWireActiveVersionsOnly() {
+            return wireActiveVersionsOnly;
+        }
+
+        public void setWireActiveVersionsOnly(boolean wireActiveVersionsOnly) {
+            this.wireActiveVersionsOnly = wireActiveVersionsOnly;
+        }
+
+        public Map<String, JobExecutorLaneProperties> getJobExecutorLanes() {
+            return jobExecutorLanes;
+        }
+
+        public void setJobExecutorLanes(Map<String, JobExecutorLaneProperties> jobExecutorLanes) {
+            this.jobExecutorLanes = jobExecutorLanes;
+        }
+
         public boolean isUseTenants() {
             return useTenants;
         }
@@ -97,6 +142,50 @@ public class Camunda7VanillaBpProperties {
 
     }
 
+    public static class JobExecutorLaneProperties {
+
+        private List<String> jobHandlerTypes = List.of();
+
+        private List<String> bpmnProcessIds = List.of();
+
+        private float acquisitionShare = 0;
+
+        private int maxConcurrentJobs = 0;
+
+        public List<String> getJobHandlerTypes() {
+            return jobHandlerTypes;
+        }
+
+        public void setJobHandlerTypes(List<String> jobHandlerTypes) {
+            this.jobHandlerTypes = jobHandlerTypes;
+        }
+
+        public List<String> getBpmnProcessIds() {
+            return bpmnProcessIds;
+        }
+
+        public void setBpmnProcessIds(List<String> bpmnProcessIds) {
+            this.bpmnProcessIds = bpmnProcessIds;
+        }
+
+        public float getAcquisitionShare() {
+            return acquisitionShare;
+        }
+
+        public void setAcquisitionShare(float acquisitionShare) {
+            this.acquisitionShare = acquisitionShare;
+        }
+
+        public int getMaxConcurrentJobs() {
+            return maxConcurrentJobs;
+        }
+
+        public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+            this.maxConcurrentJobs = maxConcurrentJobs;
+        }
+
+    }
+
     public static class AsyncProperties {
 
         private boolean useBpmnAsyncDefinitions = DEFAULT_USEBPMNASYNCDEFINITIONS;
@@ -1,7 +1,9 @@
 package io.vanillabp.camunda7.cockpit;
 
 import java.io.IOException;
-import java.util.Date;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.vanillabp.camunda7.service.WakupJobExecutorNotification;
 import jakarta.servlet.Filter;
@@ -9,6 +11,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
@@ -20,11 +23,15 @@ public class WakeupFilter implements Filter {
     
     private static final long DEBOUNCE_MILLIS = 500;
     
+    private static final Set<String> READ_ONLY_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    
     private final ApplicationEventPublisher applicationEventPublisher;
     
     private final TaskScheduler taskScheduler;
 
-    private static long lastWakeup;
+    private final AtomicBoolean wakeupPending = new AtomicBoolean(false);
+    
+    private volatile long lastActivity;
     
     public WakeupFilter(
             final ApplicationEventPublisher applicationEventPublisher,
@@ -45,22 +52,48 @@ public class WakeupFilter implements Filter {
             
         } finally {
             
-            lastWakeup = System.currentTimeMillis();
-            taskScheduler.schedule(
-                    this::wakeupJobExecutorOnActivity,
-                    new Date(lastWakeup + DEBOUNCE_MILLIS));
+            if (!isReadOnly(request)) {
+                lastActivity = System.currentTimeMillis();
+                // at most one wakeup is scheduled at a time
+                if (wakeupPending.compareAndSet(false, true)) {
+                    scheduleWakeup(lastActivity + DEBOUNCE_MILLIS);
+                }
+            }
             
         }
         
     }
     
+    private boolean isReadOnly(
+            final ServletRequest request) {
+        
+        if (!(request instanceof HttpServletRequest httpRequest)) {
+            return false;
+        }
+        return READ_ONLY_METHODS.contains(httpRequest.getMethod());
+        
+    }
+    
+    private void scheduleWakeup(
+            final long at) {
+        
+        taskScheduler.schedule(
+                this::wakeupJobExecutorOnActivity,
+                Instant.ofEpochMilli(at));
+        
+    }
+    
     private void wakeupJobExecutorOnActivity() {
 
-        final var diff = System.currentTimeMillis() - lastWakeup;
-        if (diff < DEBOUNCE_MILLIS) {
+        final var nextWakeup = lastActivity + DEBOUNCE_MILLIS;
+        if (System.currentTimeMillis() < nextWakeup) {
+            // activity since scheduling, so postpone wakeup
+            scheduleWakeup(nextWakeup);
             return;
         }
         
+        wakeupPending.set(false);
+        
         logger.debug("Wanna wake up job-executor");
         applicationEventPublisher.publishEvent(
                 new WakupJobExecutorNotification(
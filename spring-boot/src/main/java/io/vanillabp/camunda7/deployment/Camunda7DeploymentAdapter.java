@@ -5,15 +5,36 @@ import io.vanillabp.camunda7.Camunda7AdapterConfiguration;
 import io.vanillabp.camunda7.Camunda7VanillaBpProperties;
 import io.vanillabp.camunda7.wiring.Camunda7TaskWiring;
 import io.vanillabp.camunda7.wiring.TaskWiringBpmnParseListener;
+import io.vanillabp.camunda7.wiring.WiringManifest;
 import io.vanillabp.springboot.adapter.ModuleAwareBpmnDeployment;
 import io.vanillabp.springboot.adapter.VanillaBpProperties;
 import jakarta.annotation.PostConstruct;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cmd.RegisterProcessApplicationCmd;
+import org.camunda.bpm.engine.repository.Deployment;
+import org.camunda.bpm.engine.repository.DeploymentWithDefinitions;
+import org.camunda.bpm.engine.repository.ProcessDefinition;
 import org.camunda.bpm.engine.repository.ResumePreviousBy;
 import org.camunda.bpm.engine.spring.application.SpringProcessApplication;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
@@ -27,6 +48,12 @@ public class Camunda7DeploymentAdapter extends ModuleAwareBpmnDeployment {
 
     public static final String MODELCACHE_PREFIX = "C7_";
 
+    private static final int STARTUP_MAX_PARALLELISM = 8;
+
+    public static final String PROCESS_DEFINITION_MAPPING = "io/vanillabp/camunda7/deployment/ProcessDefinition.xml";
+
+    private static final String SELECT_ACTIVE_PROCESS_DEFINITION_IDS = "selectActiveProcessDefinitionIds";
+
     private final ProcessEngine processEngine;
     
     private final SpringProcessApplication processApplication;
@@ -37,13 +64,24 @@ public class Camunda7DeploymentAdapter extends ModuleAwareBpmnDeployment {
 
     private final String applicationName;
 
+    private final LatestProcessDefinitionCache latestProcessDefinitionCache;
+
+    private final WiringManifestStore wiringManifestStore;
+
+    private final Set<String> wiredDefinitions = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, ProcessDefinition> cachedModelDefinitions = new HashMap<>();
+
+    private final Map<String, Date> deploymentTimes = new ConcurrentHashMap<>();
+
     public Camunda7DeploymentAdapter(
             final VanillaBpProperties properties,
             final Camunda7VanillaBpProperties camunda7Properties,
             final SpringProcessApplication processApplication,
             final String applicationName,
             final Camunda7TaskWiring taskWiring,
-            final ProcessEngine processEngine) {
+            final ProcessEngine processEngine,
+            final LatestProcessDefinitionCache latestProcessDefinitionCache) {
         
         super(properties, applicationName);
         this.processEngine = processEngine;
@@ -51,6 +89,8 @@ public class Camunda7DeploymentAdapter extends ModuleAwareBpmnDeployment {
         this.taskWiring = taskWiring;
         this.applicationName = applicationName;
         this.camunda7Properties = camunda7Properties;
+        this.latestProcessDefinitionCache = latestProcessDefinitionCache;
+        this.wiringManifestStore = new WiringManifestStore(processEngine);
 
     }
 
@@ -86,6 +126,24 @@ public class Camunda7DeploymentAdapter extends ModuleAwareBpmnDeployment {
             final Resource[] cmms)
             throws Exception {
 
+        final var tenantId = camunda7Properties.getTenantId(workflowModuleId);
+
+        // building and submitting a deployment is not necessary if no resource changed
+        final var unchangedDeploymentId = findUnchangedDeployment(
+                workflowModuleId,
+                tenantId,
+                Stream
+                        .of(bpmns, cmms, dmns)
+                        .flatMap(Arrays::stream)
+                        .toList());
+        if (unchangedDeploymentId != null) {
+            logger.info("Resources of workflow module '{}' unchanged, skipping deployment",
+                    workflowModuleId);
+            resumePreviousDeployments(workflowModuleId, tenantId);
+            wireDeployedDefinitions(workflowModuleId, tenantId, unchangedDeploymentId);
+            return;
+        }
+
         final var deploymentBuilder = processEngine
                 .getRepositoryService()
                 .createDeployment(processApplication.getReference())
@@ -95,7 +153,6 @@ public class Camunda7DeploymentAdapter extends ModuleAwareBpmnDeployment {
                 .source(applicationName)
                 .name(workflowModuleId);
 
-        final var tenantId = camunda7Properties.getTenantId(workflowModuleId);
         if (tenantId != null) {
             deploymentBuilder.tenantId(tenantId);
         }
@@ -126,29 +183,41 @@ public class Camunda7DeploymentAdapter extends ModuleAwareBpmnDeployment {
         // BPMNs which are new will be parsed and wired as part of the deployment
         final String deploymentId;
         if (hasDeployables) {
-            final var result = deploymentBuilder
-                    .deployWithResult();
+            final DeploymentWithDefinitions result;
+            final var wiringManifests = new HashMap<String, WiringManifest>();
+            try {
+                TaskWiringBpmnParseListener.setOldVersionBpmn(false);
+                TaskWiringBpmnParseListener.recordWiringManifests(wiringManifests);
+                result = deploymentBuilder.deployWithResult();
+            } finally {
+                TaskWiringBpmnParseListener.setOldVersionBpmn(null);
+                TaskWiringBpmnParseListener.recordWiringManifests(null);
+            }
             deploymentId = result.getId();
+            // new versions might have been deployed
+            latestProcessDefinitionCache.invalidate(tenantId);
+            // used to wire those versions on next startups without parsing
             Optional
                     .ofNullable(result.getDeployedProcessDefinitions())
                     .stream()
                     .flatMap(Collection::stream)
-                    .map(definition -> Map.entry(
-                            definition.getResourceName(),
-                            processEngine
-                                    .getRepositoryService()
-                                    .getBpmnModelInstance(definition.getId())))
-                    .map(resourceModel -> Map.entry(
-                            MODELCACHE_PREFIX + resourceModel.getKey(),
-                            Map.<String, Object>entry(workflowModuleId, resourceModel.getValue())))
-                    .forEach(cacheItem -> ModuleAwareBpmnDeployment.bpmnModelCache.put(
-                            cacheItem.getKey(), cacheItem.getValue()));
+                    .filter(definition -> wiringManifests.containsKey(definition.getKey()))
+                    .forEach(definition -> wiringManifestStore.storeWiringManifest(
+                            definition,
+                            wiringManifests.get(definition.getKey())));
         } else {
             deploymentId = "";
         }
 
         // BPMNs which were deployed in the past need to be forced to be parsed for wiring
-        (tenantId == null
+        wireDeployedDefinitions(workflowModuleId, tenantId, deploymentId);
+
+    }
+
+    private List<ProcessDefinition> findProcessDefinitions(
+            final String tenantId) {
+
+        return (tenantId == null
                 ? processEngine
                         .getRepositoryService()
                         .createProcessDefinitionQuery()
@@ -156,21 +225,428 @@ public class Camunda7DeploymentAdapter extends ModuleAwareBpmnDeployment {
                         .getRepositoryService()
                         .createProcessDefinitionQuery()
                         .tenantIdIn(tenantId))
+                .list();
+
+    }
+
+    private Map<String, Date> findDeploymentTimes(
+            final String tenantId) {
+
+        return (tenantId == null
+                ? processEngine
+                        .getRepositoryService()
+                        .createDeploymentQuery()
+                : processEngine
+                        .getRepositoryService()
+                        .createDeploymentQuery()
+                        .tenantIdIn(tenantId))
                 .list()
-                .forEach(definition -> {
-                    // process models parsed during deployment are cached and therefore
-                    // not wired twice.
-                    try {
-                        TaskWiringBpmnParseListener.setOldVersionBpmn(
-                                !definition.getDeploymentId().equals(deploymentId));
-                        final var model = processEngine.getRepositoryService().getBpmnModelInstance(definition.getId());
-                        ModuleAwareBpmnDeployment.bpmnModelCache.put(
-                                MODELCACHE_PREFIX + definition.getResourceName(),
-                                Map.entry(workflowModuleId, model));
-                    } finally {
-                        TaskWiringBpmnParseListener.setOldVersionBpmn(false);
+                .stream()
+                .collect(Collectors.toMap(Deployment::getId, Deployment::getDeploymentTime));
+
+    }
+
+    /**
+     * Definitions sharing a resource name may have different BPMN process ids,
+     * so their versions are not comparable but their deployment times are.
+     */
+    private boolean isDeployedBefore(
+            final ProcessDefinition definition,
+            final ProcessDefinition other) {
+
+        final var deploymentTime = deploymentTimes.get(definition.getDeploymentId());
+        final var otherDeploymentTime = deploymentTimes.get(other.getDeploymentId());
+        return (deploymentTime != null)
+                && (otherDeploymentTime != null)
+                && deploymentTime.before(otherDeploymentTime);
+
+    }
+
+    /**
+     * Compares each of the given resources with the latest deployed resource of
+     * the same name as Camunda's duplicate filtering would do, but without
+     * building a deployment. Since only changed resources are deployed, the
+     * resources compared may belong to different deployments.
+     *
+     * @return The id of the newest deployment involved or null if any resource changed
+     */
+    private String findUnchangedDeployment(
+            final String workflowModuleId,
+            final String tenantId,
+            final List<Resource> resources) throws Exception {
+
+        if (resources.isEmpty()) {
+            return null;
+        }
+
+        final var resourceNames = resources
+                .stream()
+                .map(Resource::getFilename)
+                .collect(Collectors.toSet());
+        if (resourceNames.size() != resources.size()) {
+            // let Camunda report duplicate resource names
+            return null;
+        }
+
+        final var executor = Executors.newFixedThreadPool(
+                Math.min(STARTUP_MAX_PARALLELISM, Runtime.getRuntime().availableProcessors()));
+        try {
+
+            final var contents = executor.invokeAll(resources
+                    .stream()
+                    .map(resource -> (Callable<byte[]>) () -> {
+                        try (final var inputStream = resource.getInputStream()) {
+                            return inputStream.readAllBytes();
+                        }
+                    })
+                    .toList());
+
+            final var deployedResources = ((ProcessEngineConfigurationImpl) processEngine
+                    .getProcessEngineConfiguration())
+                    .getCommandExecutorTxRequired()
+                    .execute(commandContext -> commandContext
+                            .getResourceManager()
+                            .findLatestResourcesByDeploymentName(
+                                    workflowModuleId,
+                                    resourceNames,
+                                    applicationName,
+                                    tenantId));
+
+            final var deploymentIds = new HashSet<String>();
+            for (var i = 0; i < resources.size(); ++i) {
+                final var deployedResource = deployedResources.get(resources.get(i).getFilename());
+                if ((deployedResource == null)
+                        || !Arrays.equals(deployedResource.getBytes(), getResult(contents.get(i)))) {
+                    return null;
+                }
+                deploymentIds.add(deployedResource.getDeploymentId());
+            }
+
+            final var deploymentQuery = processEngine
+                    .getRepositoryService()
+                    .createDeploymentQuery()
+                    .deploymentName(workflowModuleId)
+                    .orderByDeploymentTime()
+                    .desc();
+            return (tenantId == null
+                    ? deploymentQuery.withoutTenantId()
+                    : deploymentQuery.tenantIdIn(tenantId))
+                    .list()
+                    .stream()
+                    .map(Deployment::getId)
+                    .filter(deploymentIds::contains)
+                    .findFirst()
+                    .orElse(null);
+
+        } finally {
+            executor.shutdownNow();
+        }
+
+    }
+
+    /**
+     * Registers the process application for all deployments of the workflow
+     * module as Camunda's deployment would do by resuming previous versions.
+     */
+    private void resumePreviousDeployments(
+            final String workflowModuleId,
+            final String tenantId) {
+
+        final var deploymentQuery = processEngine
+                .getRepositoryService()
+                .createDeploymentQuery()
+                .deploymentName(workflowModuleId);
+        final var deploymentIds = (tenantId == null
+                ? deploymentQuery.withoutTenantId()
+                : deploymentQuery.tenantIdIn(tenantId))
+                .list()
+                .stream()
+                .map(Deployment::getId)
+                .collect(Collectors.toSet());
+
+        ((ProcessEngineConfigurationImpl) processEngine
+                .getProcessEngineConfiguration())
+                .getCommandExecutorTxRequired()
+                .execute(new RegisterProcessApplicationCmd(deploymentIds, processApplication.getReference()));
+
+    }
+
+    /**
+     * Parses process definitions to wire them. Definitions of the current deployment
+     * are parsed already, definitions of previous deployments are parsed in parallel.
+     * Since identical BPMNs result in identical wiring only one definition per
+     * resource checksum and process definition key is parsed. If only active versions are wired then previous
+     * definitions neither being the latest version nor having running process instances
+     * or jobs are skipped. They get wired once they are parsed by Camunda on first access.
+     * Previous definitions are wired by their wiring manifest stored next to the
+     * deployment if available to avoid parsing. Otherwise, they are parsed and
+     * the manifest is stored for subsequent startups.
+     * BPMN models are loaded once per resource name and only for the current
+     * deployment or, for resources not part of the current deployment anymore,
+     * for their latest deployment.
+     */
+    private void wireDeployedDefinitions(
+            final String workflowModuleId,
+            final String tenantId,
+            final String deploymentId) throws Exception {
+
+        final var definitions = findProcessDefinitions(tenantId);
+        deploymentTimes.putAll(findDeploymentTimes(tenantId));
+
+        final var currentDefinitions = new LinkedList<ProcessDefinition>();
+        final var previousDefinitions = new LinkedList<ProcessDefinition>();
+        definitions.forEach(definition -> (definition.getDeploymentId().equals(deploymentId)
+                ? currentDefinitions
+                : previousDefinitions).add(definition));
+
+        // resources of the current deployment are not visible to other threads
+        // until committed and therefore are processed by this thread
+        currentDefinitions.forEach(definition -> wiredDefinitions.add(getWiredDefinitionKey(
+                workflowModuleId,
+                definition,
+                wiringManifestStore.getResourceChecksum(definition))));
+        // BPMN models of resources not part of the current deployment are needed
+        // and therefore the latest deployment of those resources has to be parsed
+        final var currentResourceNames = currentDefinitions
+                .stream()
+                .map(ProcessDefinition::getResourceName)
+                .collect(Collectors.toSet());
+        final var modelsNeeded = previousDefinitions
+                .stream()
+                .filter(definition -> !currentResourceNames.contains(definition.getResourceName()))
+                .collect(Collectors.toMap(
+                        ProcessDefinition::getResourceName,
+                        definition -> definition,
+                        (a, b) -> isDeployedBefore(a, b) ? b : a))
+                .values()
+                .stream()
+                .map(ProcessDefinition::getId)
+                .collect(Collectors.toSet());
+
+        final var wireActiveVersionsOnly = camunda7Properties.isWireActiveVersionsOnly(workflowModuleId);
+        final var latestVersions = new HashMap<String, Integer>();
+        definitions.forEach(definition -> latestVersions.merge(
+                definition.getTenantId() + "/" + definition.getKey(),
+                definition.getVersion(),
+                Math::max));
+        // previous versions neither needed for the model cache nor being the latest version
+        final Set<String> notWiredIfInactive = !wireActiveVersionsOnly
+                ? Set.of()
+                : previousDefinitions
+                        .stream()
+                        .filter(definition -> !modelsNeeded.contains(definition.getId()))
+                        .filter(definition -> latestVersions.get(definition.getTenantId() + "/" + definition.getKey())
+                                != definition.getVersion())
+                        .map(ProcessDefinition::getId)
+                        .collect(Collectors.toSet());
+        final var activeVersions = findActiveVersions(notWiredIfInactive);
+
+        final var executor = Executors.newFixedThreadPool(
+                Math.min(STARTUP_MAX_PARALLELISM, Runtime.getRuntime().availableProcessors()));
+        try {
+
+            // checksum is null for definitions not to be wired now
+            final var checksums = executor.invokeAll(previousDefinitions
+                    .stream()
+                    .map(definition -> (Callable<String>) () ->
+                            notWiredIfInactive.contains(definition.getId())
+                                    && !activeVersions.contains(definition.getId())
+                                    ? null
+                                    : wiringManifestStore.getResourceChecksum(definition))
+                    .toList());
+
+            final var definitionsToBeWired = new LinkedList<Callable<Void>>();
+            for (var i = 0; i < previousDefinitions.size(); ++i) {
+                final var definition = previousDefinitions.get(i);
+                final var checksum = getResult(checksums.get(i));
+                if (checksum == null) {
+                    logger.debug("Skip wiring of '{}' version {} since it is not active",
+                            definition.getKey(),
+                            definition.getVersion());
+                    continue;
+                }
+                final var loadModel = modelsNeeded.contains(definition.getId());
+                if (!wiredDefinitions.add(getWiredDefinitionKey(workflowModuleId, definition, checksum))
+                        && !loadModel) {
+                    logger.debug("Skip wiring of '{}' version {} since identical BPMN was wired already",
+                            definition.getKey(),
+                            definition.getVersion());
+                    continue;
+                }
+                definitionsToBeWired.add(() -> {
+                    if (loadModel
+                            || !wireByWiringManifest(workflowModuleId, definition, checksum)) {
+                        loadAndWireDefinition(workflowModuleId, definition, true, loadModel);
                     }
+                    return null;
                 });
+            }
+
+            for (final var wired : executor.invokeAll(definitionsToBeWired)) {
+                getResult(wired);
+            }
+
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // done at last to ensure current models are cached. Loading one definition
+        // of a resource parses the entire resource and therefore wires all of them.
+        final var currentResources = new HashSet<String>();
+        currentDefinitions
+                .stream()
+                .filter(definition -> currentResources.add(definition.getResourceName()))
+                .forEach(definition -> loadAndWireDefinition(workflowModuleId, definition, false, true));
+
+    }
+
+    /**
+     * A resource may contain several processes (e.g. a collaboration), so the
+     * resource checksum identifies the wiring only in combination with the
+     * process definition key (like wiring manifests do).
+     */
+    static String getWiredDefinitionKey(
+            final String workflowModuleId,
+            final ProcessDefinition definition,
+            final String resourceChecksum) {
+
+        return workflowModuleId
+                + "/"
+                + resourceChecksum
+                + "#"
+                + definition.getKey();
+
+    }
+
+    /**
+     * @param loadModel Whether to load the BPMN model into the model cache or
+     *                  to parse the process definition for wiring only
+     */
+    private void loadAndWireDefinition(
+            final String workflowModuleId,
+            final ProcessDefinition definition,
+            final boolean oldVersionBpmn,
+            final boolean loadModel) {
+
+        // process models parsed during deployment are cached and therefore
+        // not wired twice.
+        final var wiringManifests = new HashMap<String, WiringManifest>();
+        try {
+            TaskWiringBpmnParseListener.setOldVersionBpmn(oldVersionBpmn);
+            TaskWiringBpmnParseListener.recordWiringManifests(wiringManifests);
+            if (loadModel) {
+                final var model = processEngine.getRepositoryService().getBpmnModelInstance(definition.getId());
+                cacheModel(workflowModuleId, definition, model, oldVersionBpmn);
+            } else {
+                processEngine.getRepositoryService().getProcessDefinition(definition.getId());
+            }
+        } finally {
+            TaskWiringBpmnParseListener.setOldVersionBpmn(null);
+            TaskWiringBpmnParseListener.recordWiringManifests(null);
+        }
+
+        // previous versions deployed before wiring manifests were introduced,
+        // not stored again if parsed for the model cache only
+        if (oldVersionBpmn
+                && wiringManifests.containsKey(definition.getKey())) {
+            wiringManifestStore.storeWiringManifest(definition, wiringManifests.get(definition.getKey()));
+        }
+
+    }
+
+    /**
+     * Keeps one model per resource name which is the one of the current deployment
+     * or, for resources not part of the current deployment, of the latest deployment.
+     * Models replaced are removed from Camunda's model cache as well.
+     */
+    private void cacheModel(
+            final String workflowModuleId,
+            final ProcessDefinition definition,
+            final BpmnModelInstance model,
+            final boolean oldVersionBpmn) {
+
+        final var cacheKey = MODELCACHE_PREFIX + definition.getResourceName();
+        final ProcessDefinition evicted;
+        synchronized (ModuleAwareBpmnDeployment.bpmnModelCache) {
+            final var cached = cachedModelDefinitions.get(cacheKey);
+            if (oldVersionBpmn
+                    && (cached != null)
+                    && isDeployedBefore(definition, cached)) {
+                evicted = definition;
+            } else {
+                cachedModelDefinitions.put(cacheKey, definition);
+                ModuleAwareBpmnDeployment.bpmnModelCache.put(
+                        cacheKey,
+                        Map.entry(workflowModuleId, model));
+                evicted = (cached != null) && !cached.getId().equals(definition.getId())
+                        ? cached
+                        : null;
+            }
+        }
+
+        if (evicted != null) {
+            ((ProcessEngineConfigurationImpl) processEngine
+                    .getProcessEngineConfiguration())
+                    .getDeploymentCache()
+                    .getBpmnModelInstanceCache()
+                    .remove(evicted.getId());
+        }
+
+    }
+
+    /**
+     * @return Whether a wiring manifest matching the given resource checksum was found
+     */
+    private boolean wireByWiringManifest(
+            final String workflowModuleId,
+            final ProcessDefinition definition,
+            final String resourceChecksum) {
+
+        final var wiringManifest = wiringManifestStore.findWiringManifest(definition)
+                .filter(manifest -> resourceChecksum.equals(manifest.getResourceChecksum()));
+        if (wiringManifest.isEmpty()) {
+            logger.debug("No valid wiring manifest found for '{}' version {}, parsing BPMN",
+                    definition.getKey(),
+                    definition.getVersion());
+            return false;
+        }
+
+        taskWiring.wire(workflowModuleId, wiringManifest.get(), true);
+        return true;
+
+    }
+
+    /**
+     * @return The ids of the given process definitions having running process
+     *         instances or jobs (e.g. timer start events)
+     */
+    @SuppressWarnings("unchecked")
+    private Set<String> findActiveVersions(
+            final Set<String> processDefinitionIds) {
+
+        if (processDefinitionIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<String>(((ProcessEngineConfigurationImpl) processEngine
+                .getProcessEngineConfiguration())
+                .getCommandExecutorTxRequired()
+                .execute(commandContext -> commandContext
+                        .getDbEntityManager()
+                        .selectList(SELECT_ACTIVE_PROCESS_DEFINITION_IDS, List.copyOf(processDefinitionIds))));
+
+    }
+
+    private static <T> T getResult(
+            final Future<T> future) throws Exception {
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
 
     }
     
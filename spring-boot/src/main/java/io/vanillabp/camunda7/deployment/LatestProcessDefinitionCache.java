@@ -0,0 +1,79 @@
+package io.vanillabp.camunda7.deployment;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+
+/*
+ * Caches the id of the latest process definition by tenant-id and BPMN process id
+ * to not resolve the latest version on each start of a process instance. Entries
+ * are invalidated by deployments of this node. Deployments of other nodes (e.g.
+ * during rolling deployments) are picked up once entries expire.
+ *
+ * Each entry records the tenant's generation read before resolving the latest
+ * version. Invalidation increments the generation, so entries resolved before
+ * the invalidation but put afterward are never served.
+ */
+public class LatestProcessDefinitionCache {
+
+    private static final long TIME_TO_LIVE_MILLIS = 60_000;
+
+    private record Key(String tenantId, String bpmnProcessId) { }
+
+    private record Tenant(String tenantId) { }
+
+    private record Entry(String processDefinitionId, long generation, long expiresAt) { }
+
+    private final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+
+    private final Map<Tenant, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /**
+     * @param tenantId The tenant-id or null for process definitions without tenant-id
+     * @return The id of the latest process definition
+     */
+    public String getLatestProcessDefinitionId(
+            final CommandContext commandContext,
+            final String tenantId,
+            final String bpmnProcessId) {
+
+        final var key = new Key(tenantId, bpmnProcessId);
+        final var now = System.currentTimeMillis();
+        final var generation = getGeneration(tenantId).get();
+
+        final var cached = cache.get(key);
+        if ((cached != null)
+                && (cached.generation() == generation)
+                && (cached.expiresAt() > now)) {
+            return cached.processDefinitionId();
+        }
+
+        // throws an exception if there is no such process definition
+        final var processDefinition = commandContext
+                .getProcessEngineConfiguration()
+                .getDeploymentCache()
+                .findDeployedLatestProcessDefinitionByKeyAndTenantId(bpmnProcessId, tenantId);
+
+        cache.put(key, new Entry(processDefinition.getId(), generation, now + TIME_TO_LIVE_MILLIS));
+        return processDefinition.getId();
+
+    }
+
+    public void invalidate(
+            final String tenantId) {
+
+        getGeneration(tenantId).incrementAndGet();
+        cache.keySet().removeIf(key -> Objects.equals(key.tenantId(), tenantId));
+
+    }
+
+    private AtomicLong getGeneration(
+            final String tenantId) {
+
+        return generations.computeIfAbsent(new Tenant(tenantId), tenant -> new AtomicLong());
+
+    }
+
+}
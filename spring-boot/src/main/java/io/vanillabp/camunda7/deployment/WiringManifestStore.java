@@ -0,0 +1,162 @@
+package io.vanillabp.camunda7.deployment;
+
+import io.vanillabp.camunda7.wiring.WiringManifest;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.persistence.entity.ResourceEntity;
+import org.camunda.bpm.engine.repository.ProcessDefinition;
+import org.camunda.bpm.engine.repository.ResourceTypes;
+
+/*
+ * Wiring manifests are stored as generated resources next to the process
+ * definition's deployment. Resources of a deployment never change, so
+ * manifests and resource checksums are cached once read.
+ */
+class WiringManifestStore {
+
+    private static final String WIRING_MANIFEST_SUFFIX = ".vanillabp-wiring";
+
+    private final ProcessEngine processEngine;
+
+    private final Map<String, String> resourceChecksums = new ConcurrentHashMap<>();
+
+    private final Map<String, Optional<WiringManifest>> wiringManifests = new ConcurrentHashMap<>();
+
+    WiringManifestStore(
+            final ProcessEngine processEngine) {
+
+        this.processEngine = processEngine;
+
+    }
+
+    /**
+     * @return The wiring manifest stored for the given definition, if any
+     */
+    Optional<WiringManifest> findWiringManifest(
+            final ProcessDefinition definition) {
+
+        return wiringManifests.computeIfAbsent(
+                definition.getDeploymentId() + "/" + getWiringManifestName(definition),
+                key -> ((ProcessEngineConfigurationImpl) processEngine
+                        .getProcessEngineConfiguration())
+                        .getCommandExecutorTxRequired()
+                        .execute(commandContext -> commandContext
+                                .getResourceManager()
+                                .findResourceByDeploymentIdAndResourceNames(
+                                        definition.getDeploymentId(),
+                                        getWiringManifestName(definition)))
+                        .stream()
+                        .map(resource -> WiringManifest.fromCanonicalString(
+                                new String(resource.getBytes(), StandardCharsets.UTF_8)))
+                        .filter(manifest -> manifest != null)
+                        .findFirst());
+
+    }
+
+    /**
+     * Stores the given manifest unless a valid one was stored already (e.g. by
+     * a previous startup or another node).
+     */
+    void storeWiringManifest(
+            final ProcessDefinition definition,
+            final WiringManifest wiringManifest) {
+
+        if (findWiringManifest(definition).isPresent()) {
+            return;
+        }
+
+        final var storedManifest = wiringManifest.withResourceChecksum(getResourceChecksum(definition));
+        final var resource = new ResourceEntity();
+        resource.setName(getWiringManifestName(definition));
+        resource.setDeploymentId(definition.getDeploymentId());
+        resource.setTenantId(definition.getTenantId());
+        resource.setType(ResourceTypes.REPOSITORY.getValue());
+        resource.setGenerated(true);
+        resource.setBytes(storedManifest
+                .toCanonicalString()
+                .getBytes(StandardCharsets.UTF_8));
+
+        ((ProcessEngineConfigurationImpl) processEngine
+                .getProcessEngineConfiguration())
+                .getCommandExecutorTxRequired()
+                .execute(commandContext -> {
+                    // stored by another node in the meantime
+                    final var storedResources = commandContext
+                            .getResourceManager()
+                            .findResourceByDeploymentIdAndResourceNames(
+                                    definition.getDeploymentId(),
+                                    getWiringManifestName(definition));
+                    if (storedResources.stream().anyMatch(stored -> WiringManifest.fromCanonicalString(
+                            new String(stored.getBytes(), StandardCharsets.UTF_8)) != null)) {
+                        return null;
+                    }
+                    commandContext.getResourceManager().insertResource(resource);
+                    return null;
+                });
+        wiringManifests.put(
+                definition.getDeploymentId() + "/" + getWiringManifestName(definition),
+                Optional.of(storedManifest));
+
+    }
+
+    /**
+     * The checksum stored in the definition's wiring manifest is used if
+     * available. Otherwise, it is calculated from the deployed resource.
+     */
+    String getResourceChecksum(
+            final ProcessDefinition definition) {
+
+        return resourceChecksums.computeIfAbsent(
+                definition.getDeploymentId() + "/" + definition.getResourceName(),
+                key -> {
+                    final var wiringManifest = findWiringManifest(definition);
+                    if (wiringManifest.isPresent()) {
+                        return wiringManifest.get().getResourceChecksum();
+                    }
+                    try (final var resource = processEngine
+                                .getRepositoryService()
+                                .getResourceAsStream(definition.getDeploymentId(), definition.getResourceName())) {
+                        return getChecksum(resource);
+                    } catch (Exception e) {
+                        throw new RuntimeException(
+                                "Could not calculate checksum of resource '"
+                                + definition.getResourceName()
+                                + "' of deployment '"
+                                + definition.getDeploymentId()
+                                + "'", e);
+                    }
+                });
+
+    }
+
+    private static String getChecksum(
+            final InputStream inputStream) throws Exception {
+
+        final var digest = MessageDigest.getInstance("SHA-256");
+        final var buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+
+    }
+
+    static String getWiringManifestName(
+            final ProcessDefinition definition) {
+
+        return definition.getResourceName()
+                + "#"
+                + definition.getKey()
+                + WIRING_MANIFEST_SUFFIX;
+
+    }
+
+}
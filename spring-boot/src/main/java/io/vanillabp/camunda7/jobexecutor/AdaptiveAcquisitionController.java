@@ -0,0 +1,113 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.camunda.bpm.engine.impl.jobexecutor.JobAcquisitionContext;
+
+/*
+ * Picks the number of jobs to acquire and the wait time after busy acquisition
+ * cycles based on measurements instead of static settings:
+ *
+ * - The batch size grows additively as long as full batches are acquired
+ *   without locking failures and the executor has free capacity. It is halved
+ *   on locking failures (other nodes competing for the same jobs) or rejected
+ *   executions.
+ * - The wait time after a cycle with locking failures is proportional to the
+ *   (smoothed) locking failure rate with jitter to spread competing nodes.
+ */
+public class AdaptiveAcquisitionController {
+
+    private static final double SMOOTHING = 0.3;
+
+    private static final double FAILURE_RATE_THRESHOLD = 0.1;
+
+    private final int minJobsToAcquire;
+
+    private final int maxJobsToAcquire;
+
+    private final long maxBackoffWaitTime;
+
+    private double successRate = 1.0;
+
+    private double failureRate = 0.0;
+
+    private int numJobsToAcquire;
+
+    public AdaptiveAcquisitionController(
+            final int baseJobsToAcquire,
+            final int maxJobsToAcquire,
+            final long maxBackoffWaitTime) {
+
+        this.minJobsToAcquire = 1;
+        this.maxJobsToAcquire = Math.max(baseJobsToAcquire, maxJobsToAcquire);
+        this.maxBackoffWaitTime = maxBackoffWaitTime;
+        this.numJobsToAcquire = baseJobsToAcquire;
+
+    }
+
+    /**
+     * Updates the measurements by the result of the last acquisition cycle.
+     *
+     * @param context The context of the last acquisition cycle
+     * @param freeExecutorCapacity The number of jobs the executor is able to take at the moment
+     */
+    public void update(
+            final JobAcquisitionContext context,
+            final int freeExecutorCapacity) {
+
+        var attempted = 0;
+        var acquired = 0;
+        var failedToLock = 0;
+        for (final var acquiredJobs : context.getAcquiredJobsByEngine().values()) {
+            attempted += acquiredJobs.getNumberOfJobsAttemptedToAcquire();
+            acquired += acquiredJobs.size();
+            failedToLock += acquiredJobs.getNumberOfJobsFailedToLock();
+        }
+        final var rejected = !context.getRejectedJobsByEngine().isEmpty();
+
+        if (attempted > 0) {
+            successRate = smooth(successRate, (double) acquired / attempted);
+            failureRate = smooth(failureRate, (double) failedToLock / attempted);
+        } else {
+            failureRate = smooth(failureRate, 0);
+        }
+
+        if (rejected
+                || (failureRate > FAILURE_RATE_THRESHOLD)) {
+            numJobsToAcquire = Math.max(minJobsToAcquire, numJobsToAcquire / 2);
+        } else if ((acquired >= numJobsToAcquire)
+                && (successRate > 1.0 - FAILURE_RATE_THRESHOLD)) {
+            numJobsToAcquire = Math.min(maxJobsToAcquire, numJobsToAcquire + 1);
+        }
+
+        numJobsToAcquire = Math.max(minJobsToAcquire, Math.min(numJobsToAcquire, freeExecutorCapacity));
+
+    }
+
+    public int getNumJobsToAcquire() {
+
+        return numJobsToAcquire;
+
+    }
+
+    /**
+     * @return The time to wait after a busy acquisition cycle
+     */
+    public long getBusyWaitTime() {
+
+        if (failureRate <= FAILURE_RATE_THRESHOLD) {
+            return 0;
+        }
+        final var waitTime = (long) (maxBackoffWaitTime * Math.min(1.0, failureRate));
+        return waitTime / 2 + ThreadLocalRandom.current().nextLong(waitTime / 2 + 1);
+
+    }
+
+    private static double smooth(
+            final double previous,
+            final double current) {
+
+        return previous + SMOOTHING * (current - previous);
+
+    }
+
+}
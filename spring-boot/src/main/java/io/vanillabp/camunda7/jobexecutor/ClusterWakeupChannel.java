@@ -0,0 +1,25 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import io.vanillabp.camunda7.service.WakupJobExecutorNotification;
+import java.util.function.Consumer;
+
+/*
+ * Spreads wakeups of the job-executor to all nodes of a cluster. Provide a
+ * custom bean (e.g. based on PostgreSQL's LISTEN/NOTIFY) to replace the default
+ * implementation polling the database.
+ */
+public interface ClusterWakeupChannel {
+
+    /**
+     * Sends the notification to all other nodes. Must not block the caller.
+     */
+    void publish(
+            WakupJobExecutorNotification notification);
+
+    /**
+     * Registers a listener called for notifications published by other nodes.
+     */
+    void subscribe(
+            Consumer<WakupJobExecutorNotification> listener);
+
+}
@@ -0,0 +1,245 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import io.vanillabp.camunda7.service.WakupJobExecutorNotification;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.persistence.entity.PropertyEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.TaskScheduler;
+
+/*
+ * Uses a row of Camunda's property table (ACT_GE_PROPERTY) as a shared signal:
+ * publishing a wakeup increments a counter stored along with the publishing node,
+ * all nodes poll the row by primary key and wake up their job-executor once the
+ * counter exceeds the last one seen. Since the counter only increases, a signal
+ * overwritten by another node before being read is still noticed. The value is
+ * written immediately by the task scheduler, so other nodes get the signal within
+ * one polling interval. Works on each database supported by Camunda.
+ */
+public class DatabasePollingClusterWakeupChannel implements ClusterWakeupChannel, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabasePollingClusterWakeupChannel.class);
+
+    public static final String PROPERTY_NAME = "vanillabp.job-executor.wakeup";
+
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ProcessEngine processEngine;
+
+    private final TaskScheduler taskScheduler;
+
+    private final Duration pollingInterval;
+
+    private final List<Consumer<WakupJobExecutorNotification>> listeners = new CopyOnWriteArrayList<>();
+
+    private final AtomicBoolean publishPending = new AtomicBoolean(false);
+
+    private boolean initialized = false;
+
+    private long lastSeenCounter = 0;
+
+    private ScheduledFuture<?> polling;
+
+    public DatabasePollingClusterWakeupChannel(
+            final ProcessEngine processEngine,
+            final TaskScheduler taskScheduler,
+            final Duration pollingInterval) {
+
+        this.processEngine = processEngine;
+        this.taskScheduler = taskScheduler;
+        this.pollingInterval = pollingInterval;
+
+    }
+
+    @Override
+    public void publish(
+            final WakupJobExecutorNotification notification) {
+
+        // multiple publishes until the value is written are merged
+        if (publishPending.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::publishPending, Instant.now());
+        }
+
+    }
+
+    @Override
+    public synchronized void subscribe(
+            final Consumer<WakupJobExecutorNotification> listener) {
+
+        listeners.add(listener);
+        if (polling == null) {
+            polling = taskScheduler.scheduleWithFixedDelay(this::poll, pollingInterval);
+        }
+
+    }
+
+    @Override
+    public synchronized void destroy() {
+
+        if (polling != null) {
+            polling.cancel(false);
+            polling = null;
+        }
+
+    }
+
+    private void publishPending() {
+
+        try {
+
+            if (publishPending.getAndSet(false)) {
+                writeSignal();
+            }
+
+        } catch (Exception e) {
+
+            logger.warn("Could not publish wakeup signal to cluster", e);
+
+        }
+
+    }
+
+    private void poll() {
+
+        try {
+
+            readSignal();
+
+        } catch (Exception e) {
+
+            logger.warn("Could not poll wakeup signal of cluster", e);
+
+        }
+
+    }
+
+    private record Signal(
+            long counter,
+            String nodeId) {
+
+        /**
+         * @return The signal stored or a signal having counter 0 for values
+         *         written by previous versions
+         */
+        static Signal parse(
+                final String value) {
+
+            final var separator = value.indexOf(':');
+            try {
+                return new Signal(
+                        Long.parseLong(value, 0, separator, 10),
+                        value.substring(separator + 1));
+            } catch (RuntimeException e) {
+                return new Signal(0, null);
+            }
+
+        }
+
+        String toValue() {
+
+            return counter + ":" + nodeId;
+
+        }
+
+    }
+
+    /*
+     * A concurrent write of another node fails the insert of the first value by a
+     * duplicate key or the update by an optimistic locking exception. In both cases
+     * the write is retried since the row exists afterward. The signal replaced
+     * by the write may be one of another node not yet read by this node.
+     */
+    void writeSignal() {
+
+        for (var attempt = 1; ; ++attempt) {
+            try {
+                final var previous = getProcessEngineConfiguration()
+                        .getCommandExecutorTxRequired()
+                        .execute(commandContext -> {
+                            final var property = commandContext
+                                    .getPropertyManager()
+                                    .findPropertyById(PROPERTY_NAME);
+                            if (property == null) {
+                                commandContext
+                                        .getDbEntityManager()
+                                        .insert(new PropertyEntity(PROPERTY_NAME, new Signal(1, nodeId).toValue()));
+                                return null;
+                            }
+                            final var replaced = Signal.parse(property.getValue());
+                            property.setValue(new Signal(replaced.counter() + 1, nodeId).toValue());
+                            return replaced;
+                        });
+                signalSeen(previous, previous == null ? 1 : previous.counter() + 1);
+                break;
+            } catch (ProcessEngineException e) {
+                if (attempt == MAX_WRITE_ATTEMPTS) {
+                    throw e;
+                }
+                logger.trace("Concurrent wakeup signal of another node, retrying", e);
+            }
+        }
+
+    }
+
+    void readSignal() {
+
+        final var signal = getProcessEngineConfiguration()
+                .getCommandExecutorTxRequired()
+                .execute(commandContext -> {
+                    final var property = commandContext
+                            .getPropertyManager()
+                            .findPropertyById(PROPERTY_NAME);
+                    return property == null ? null : Signal.parse(property.getValue());
+                });
+        signalSeen(signal, 0);
+
+    }
+
+    /**
+     * @param signal The signal read or null if no signal was written so far
+     * @param writtenCounter The counter written by this node or 0
+     */
+    private void signalSeen(
+            final Signal signal,
+            final long writtenCounter) {
+
+        final var counter = signal == null ? 0 : signal.counter();
+        final boolean received;
+        synchronized (this) {
+            received = initialized
+                    && (counter > lastSeenCounter)
+                    && !nodeId.equals(signal.nodeId());
+            initialized = true;
+            // a lower counter means the signal was reset
+            lastSeenCounter = Math.max(counter, writtenCounter);
+        }
+        if (!received) {
+            return;
+        }
+
+        logger.debug("Wakeup signal of other node received");
+        final var notification = new WakupJobExecutorNotification(signal.nodeId());
+        listeners.forEach(listener -> listener.accept(notification));
+
+    }
+
+    private ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
+
+        return (ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration();
+
+    }
+
+}
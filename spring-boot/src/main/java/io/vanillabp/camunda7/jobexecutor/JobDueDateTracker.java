@@ -0,0 +1,100 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Keeps track of the earliest due-date of jobs known to this node. The value is
+ * determined by querying the database and afterward updated by timers scheduled
+ * on this node. This way the job-executor does not need to query the database
+ * each time it goes idle. Since timers scheduled by other nodes are not tracked
+ * the value queried expires after a given staleness.
+ */
+public class JobDueDateTracker {
+
+    public static final long UNKNOWN = -1;
+
+    public static final long NONE = Long.MAX_VALUE;
+
+    private volatile long queriedDueDate = UNKNOWN;
+
+    private volatile long queriedAt;
+
+    private final AtomicLong scheduledDueDate = new AtomicLong(NONE);
+
+    /**
+     * Called once a transaction scheduling a job having the given due-date was committed.
+     */
+    public void jobScheduled(
+            final Date dueDate) {
+
+        if (dueDate == null) {
+            return;
+        }
+        scheduledDueDate.accumulateAndGet(dueDate.getTime(), Math::min);
+
+    }
+
+    /**
+     * Forces the next call of {@link #getEarliestDueDate(long, long)} to return
+     * {@link #UNKNOWN} e.g. because jobs were executed which may have changed due-dates
+     * in a way not tracked.
+     */
+    public void invalidate() {
+
+        queriedDueDate = UNKNOWN;
+
+    }
+
+    /**
+     * Has to be called before the database is queried for the earliest due-date.
+     */
+    public void beforeQuery() {
+
+        scheduledDueDate.set(NONE);
+
+    }
+
+    /**
+     * @param earliestDueDate The earliest due-date found by the query or {@link #NONE}
+     * @param queryTime The time the query was started
+     */
+    public void afterQuery(
+            final long earliestDueDate,
+            final long queryTime) {
+
+        queriedAt = queryTime;
+        queriedDueDate = earliestDueDate;
+
+    }
+
+    /**
+     * @param now The current time
+     * @param maxStaleness The maximum time in milliseconds the due-date queried is used
+     * @return The earliest due-date known but not later than the time the due-date
+     *         queried expires, {@link #NONE} if there are no jobs having a due-date
+     *         and staleness is not limited or {@link #UNKNOWN} if the database has
+     *         to be queried
+     */
+    public long getEarliestDueDate(
+            final long now,
+            final long maxStaleness) {
+
+        final var queried = queriedDueDate;
+        if (queried == UNKNOWN) {
+            return UNKNOWN;
+        }
+        final var expiresAt = maxStaleness > NONE - queriedAt
+                ? NONE
+                : queriedAt + maxStaleness;
+        final var result = Math.min(
+                Math.min(queried, scheduledDueDate.get()),
+                expiresAt);
+        if (result <= now) {
+            return UNKNOWN;
+        }
+        return result;
+
+    }
+
+}
@@ -0,0 +1,113 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+
+/*
+ * A lane reserves a share of each job acquisition and a number of executor
+ * slots for jobs matching by job handler type and/or process definition key.
+ * Matching is done by the acquisition query (see WakeupJobManager).
+ */
+public class JobExecutorLane {
+
+    private final String name;
+
+    private final String tenantId;
+
+    private final Set<String> jobHandlerTypes;
+
+    private final Set<String> processDefinitionKeys;
+
+    private final float acquisitionShare;
+
+    private final Semaphore slots;
+
+    public JobExecutorLane(
+            final String name,
+            final String tenantId,
+            final Set<String> jobHandlerTypes,
+            final Set<String> processDefinitionKeys,
+            final float acquisitionShare,
+            final int maxConcurrentJobs) {
+
+        this.name = name;
+        this.tenantId = tenantId;
+        this.jobHandlerTypes = jobHandlerTypes;
+        this.processDefinitionKeys = processDefinitionKeys;
+        this.acquisitionShare = acquisitionShare;
+        this.slots = maxConcurrentJobs > 0 ? new Semaphore(maxConcurrentJobs) : null;
+
+    }
+
+    public String getName() {
+
+        return name;
+
+    }
+
+    /**
+     * @return The tenant jobs have to belong to or null if jobs of any tenant match
+     */
+    public String getTenantId() {
+
+        return tenantId;
+
+    }
+
+    /**
+     * @return The job handler types matching or an empty set if any type matches
+     */
+    public Set<String> getJobHandlerTypes() {
+
+        return jobHandlerTypes;
+
+    }
+
+    /**
+     * @return The process definition keys matching or an empty set if any key matches
+     */
+    public Set<String> getProcessDefinitionKeys() {
+
+        return processDefinitionKeys;
+
+    }
+
+    /**
+     * @param numJobsToAcquire The number of jobs acquired in total
+     * @return The max. number of jobs of this lane to be acquired
+     */
+    public int getMaxJobsToAcquire(
+            final int numJobsToAcquire) {
+
+        var result = numJobsToAcquire;
+        if (acquisitionShare > 0) {
+            result = Math.max(1, Math.round(numJobsToAcquire * acquisitionShare));
+        }
+        if (slots != null) {
+            result = Math.min(result, slots.availablePermits());
+        }
+        return result;
+
+    }
+
+    public boolean hasSlotLimit() {
+
+        return slots != null;
+
+    }
+
+    public boolean tryAcquireSlot() {
+
+        return (slots == null) || slots.tryAcquire();
+
+    }
+
+    public void releaseSlot() {
+
+        if (slots != null) {
+            slots.release();
+        }
+
+    }
+
+}
@@ -0,0 +1,86 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+
+/*
+ * The lanes configured and the lanes of jobs acquired but not yet executed.
+ */
+public class JobExecutorLanes {
+
+    private final List<JobExecutorLane> lanes;
+
+    private final Map<String, JobExecutorLane> lanesByJobId = new ConcurrentHashMap<>();
+
+    public JobExecutorLanes(
+            final List<JobExecutorLane> lanes) {
+
+        this.lanes = lanes;
+
+    }
+
+    public List<JobExecutorLane> getLanes() {
+
+        return lanes;
+
+    }
+
+    void jobsAcquired(
+            final JobExecutorLane lane,
+            final Collection<String> jobIds) {
+
+        if (!lane.hasSlotLimit()) {
+            return;
+        }
+        jobIds.forEach(jobId -> lanesByJobId.put(jobId, lane));
+
+    }
+
+    JobExecutorLane getLane(
+            final List<String> jobIds) {
+
+        if (jobIds.isEmpty()) {
+            return null;
+        }
+        return lanesByJobId.get(jobIds.get(0));
+
+    }
+
+    /**
+     * Same matching as done by the acquisition query (see LaneJob.xml) for jobs
+     * not acquired (see JobHandOff).
+     *
+     * @param job The job
+     * @return The first lane matching or null if the job belongs to none of the lanes
+     */
+    JobExecutorLane findLane(
+            final JobEntity job) {
+
+        return lanes
+                .stream()
+                .filter(lane -> (lane.getTenantId() == null)
+                        || lane.getTenantId().equals(job.getTenantId()))
+                .filter(lane -> lane.getJobHandlerTypes().isEmpty()
+                        || lane.getJobHandlerTypes().contains(job.getJobHandlerType()))
+                .filter(lane -> lane.getProcessDefinitionKeys().isEmpty()
+                        || ((job.getProcessDefinitionKey() != null)
+                            && lane.getProcessDefinitionKeys().contains(job.getProcessDefinitionKey())))
+                .findFirst()
+                .orElse(null);
+
+    }
+
+    /*
+     * Jobs executed or rejected
+     */
+    void jobsReleased(
+            final List<String> jobIds) {
+
+        jobIds.forEach(lanesByJobId::remove);
+
+    }
+
+}
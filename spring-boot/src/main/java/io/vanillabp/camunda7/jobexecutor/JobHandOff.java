@@ -0,0 +1,83 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.camunda.bpm.engine.OptimisticLockingException;
+import org.camunda.bpm.engine.impl.ProcessEngineImpl;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+ * Passes jobs created on this node directly to the local job-executor once
+ * the creating transaction was committed. The jobs are locked by their ids
+ * which saves the job-executor from querying for them. Jobs which cannot be
+ * locked (e.g. because another node acquired them meanwhile) are left to the
+ * acquisition. Jobs rejected by the job-executor are unlocked only, since the
+ * acquisition did not acquire them.
+ */
+public class JobHandOff {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobHandOff.class);
+
+    private final WakeupJobExecutor jobExecutor;
+
+    private final Set<String> jobHandlerTypes;
+
+    public JobHandOff(
+            final WakeupJobExecutor jobExecutor,
+            final Set<String> jobHandlerTypes) {
+
+        this.jobExecutor = jobExecutor;
+        this.jobHandlerTypes = jobHandlerTypes;
+
+    }
+
+    public boolean appliesTo(
+            final JobEntity job) {
+
+        return jobHandlerTypes.contains(job.getJobHandlerType())
+                && (job.getDuedate() == null);
+
+    }
+
+    public void handOff(
+            final ProcessEngineImpl processEngine,
+            final Collection<String> jobIds) {
+
+        if (!jobExecutor.isActive()
+                || !jobExecutor.hasRegisteredEngine(processEngine)) {
+            return;
+        }
+
+        // called after commit, so a new transaction is required
+        final var commandExecutor = processEngine
+                .getProcessEngineConfiguration()
+                .getCommandExecutorTxRequiresNew();
+
+        final List<JobEntity> lockedJobs;
+        try {
+            lockedJobs = commandExecutor.execute(
+                    new LockJobsCommand(
+                            jobIds,
+                            jobExecutor.getLockOwner(),
+                            jobExecutor.getLockTimeInMillis()));
+        } catch (OptimisticLockingException e) {
+            logger.trace("Jobs {} were acquired concurrently, leaving them to acquisition", jobIds);
+            return;
+        } catch (Exception e) {
+            logger.warn("Could not lock jobs {} for hand-off, leaving them to acquisition", jobIds, e);
+            return;
+        }
+
+        if (lockedJobs.isEmpty()) {
+            return;
+        }
+
+        logger.debug("Hand-off of {} jobs to local job-executor", lockedJobs.size());
+        jobExecutor.executeHandedOffJobs(lockedJobs, processEngine, UnlockRejectedJobsHandler::unlockJobs);
+
+    }
+
+}
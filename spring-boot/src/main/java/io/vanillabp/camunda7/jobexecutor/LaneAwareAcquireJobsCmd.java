@@ -0,0 +1,149 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.camunda.bpm.engine.impl.Page;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
+import org.camunda.bpm.engine.impl.cmd.AcquireJobsCmd;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.jobexecutor.AcquiredJobs;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.bpm.engine.impl.persistence.entity.AcquirableJobEntity;
+
+/*
+ * Same as Camunda's AcquireJobsCmd but limits the number of jobs acquired per
+ * lane. Each lane's jobs are selected by a separate query limited to the
+ * lane's share. Jobs not belonging to any lane are selected for the rest of
+ * the jobs to be acquired.
+ */
+public class LaneAwareAcquireJobsCmd extends AcquireJobsCmd {
+
+    private final JobExecutorLanes lanes;
+
+    private final Map<JobExecutorLane, List<List<String>>> batchesByLane = new HashMap<>();
+
+    private final Map<String, List<String>> exclusiveJobsByProcessInstance = new LinkedHashMap<>();
+
+    private final Map<String, JobExecutorLane> lanesByProcessInstance = new HashMap<>();
+
+    private final Map<JobExecutorLane, List<String>> exclusiveJobsWithoutProcessInstance = new LinkedHashMap<>();
+
+    public LaneAwareAcquireJobsCmd(
+            final JobExecutor jobExecutor,
+            final int numJobsToAcquire,
+            final JobExecutorLanes lanes) {
+
+        super(jobExecutor, numJobsToAcquire);
+        this.lanes = lanes;
+
+    }
+
+    @Override
+    public AcquiredJobs execute(
+            final CommandContext commandContext) {
+
+        acquiredJobs = new AcquiredJobs(numJobsToAcquire);
+
+        final var jobManager = (WakeupJobManager) commandContext.getJobManager();
+        final var isAcquireExclusiveOverProcessHierarchies = isAcquireExclusiveOverProcessHierarchies(commandContext);
+        final var precedingLanes = new ArrayList<JobExecutorLane>();
+        var numberOfJobsToLock = numJobsToAcquire;
+
+        for (final var lane : lanes.getLanes()) {
+
+            final var maxJobsToAcquire = Math.min(numberOfJobsToLock, lane.getMaxJobsToAcquire(numJobsToAcquire));
+            if (maxJobsToAcquire > 0) {
+                final var jobs = jobManager.findNextLaneJobsToExecute(
+                        lane,
+                        List.copyOf(precedingLanes),
+                        new Page(0, maxJobsToAcquire));
+                lockJobs(lane, jobs, isAcquireExclusiveOverProcessHierarchies);
+                numberOfJobsToLock -= jobs.size();
+            }
+            precedingLanes.add(lane);
+
+        }
+
+        if (numberOfJobsToLock > 0) {
+            final var jobs = jobManager.findNextLaneJobsToExecute(
+                    null,
+                    precedingLanes,
+                    new Page(0, numberOfJobsToLock));
+            lockJobs(null, jobs, isAcquireExclusiveOverProcessHierarchies);
+        }
+
+        exclusiveJobsByProcessInstance.forEach((processInstanceId, jobIds) ->
+                addJobIdBatch(lanesByProcessInstance.get(processInstanceId), jobIds));
+        exclusiveJobsWithoutProcessInstance.forEach(this::addJobIdBatch);
+
+        commandContext.getDbEntityManager().registerOptimisticLockingListener(this);
+
+        if (!batchesByLane.isEmpty()) {
+            commandContext
+                    .getTransactionContext()
+                    .addTransactionListener(
+                            TransactionState.COMMITTED,
+                            context -> registerLanes());
+        }
+
+        return acquiredJobs;
+
+    }
+
+    private void lockJobs(
+            final JobExecutorLane lane,
+            final List<AcquirableJobEntity> jobs,
+            final boolean isAcquireExclusiveOverProcessHierarchies) {
+
+        for (final var job : jobs) {
+
+            lockJob(job);
+
+            if (job.isExclusive()) {
+                final var processInstanceId = selectProcessInstanceId(job, isAcquireExclusiveOverProcessHierarchies);
+                if (processInstanceId == null) {
+                    // e.g. start-process jobs: Camunda batches them all together, here per lane
+                    exclusiveJobsWithoutProcessInstance
+                            .computeIfAbsent(lane, l -> new ArrayList<>())
+                            .add(job.getId());
+                    continue;
+                }
+                exclusiveJobsByProcessInstance
+                        .computeIfAbsent(processInstanceId, id -> new ArrayList<>())
+                        .add(job.getId());
+                lanesByProcessInstance.putIfAbsent(processInstanceId, lane);
+            } else {
+                addJobIdBatch(lane, List.of(job.getId()));
+            }
+
+        }
+
+    }
+
+    private void addJobIdBatch(
+            final JobExecutorLane lane,
+            final List<String> jobIds) {
+
+        acquiredJobs.addJobIdBatch(jobIds);
+        if (lane != null) {
+            batchesByLane
+                    .computeIfAbsent(lane, l -> new ArrayList<>())
+                    .add(jobIds);
+        }
+
+    }
+
+    private void registerLanes() {
+
+        batchesByLane.forEach((lane, batches) -> batches
+                .stream()
+                // jobs failed to lock were removed by optimistic locking listener
+                .filter(batch -> acquiredJobs.contains(batch.get(0)))
+                .forEach(batch -> lanes.jobsAcquired(lane, batch)));
+
+    }
+
+}
@@ -0,0 +1,31 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.jobexecutor.AcquireJobsCommandFactory;
+import org.camunda.bpm.engine.impl.jobexecutor.AcquiredJobs;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+
+public class LaneAwareAcquireJobsCommandFactory implements AcquireJobsCommandFactory {
+
+    private final JobExecutor jobExecutor;
+
+    private final JobExecutorLanes lanes;
+
+    public LaneAwareAcquireJobsCommandFactory(
+            final JobExecutor jobExecutor,
+            final JobExecutorLanes lanes) {
+
+        this.jobExecutor = jobExecutor;
+        this.lanes = lanes;
+
+    }
+
+    @Override
+    public Command<AcquiredJobs> getCommand(
+            final int numJobsToAcquire) {
+
+        return new LaneAwareAcquireJobsCmd(jobExecutor, numJobsToAcquire, lanes);
+
+    }
+
+}
@@ -0,0 +1,71 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+
+/*
+ * Locks jobs by their ids, the same way the job acquisition does for the jobs
+ * found by its query. Jobs not lockable (e.g. suspended or locked by another
+ * job-executor) are skipped. If one of the jobs is locked concurrently by another
+ * job-executor the update of all jobs fails due to optimistic locking.
+ */
+public class LockJobsCommand implements Command<List<JobEntity>> {
+
+    private final Collection<String> jobIds;
+
+    private final String lockOwner;
+
+    private final int lockTimeInMillis;
+
+    public LockJobsCommand(
+            final Collection<String> jobIds,
+            final String lockOwner,
+            final int lockTimeInMillis) {
+
+        this.jobIds = jobIds;
+        this.lockOwner = lockOwner;
+        this.lockTimeInMillis = lockTimeInMillis;
+
+    }
+
+    @Override
+    public List<JobEntity> execute(
+            final CommandContext commandContext) {
+
+        final var jobManager = commandContext.getJobManager();
+        final var now = ClockUtil.getCurrentTime();
+        final var lockExpirationTime = new Date(now.getTime() + lockTimeInMillis);
+
+        final var result = new ArrayList<JobEntity>(jobIds.size());
+        for (final var jobId : jobIds) {
+            final var job = jobManager.findJobById(jobId);
+            if (job == null) {
+                continue;
+            }
+            if ((job.getLockOwner() != null)
+                    && (job.getLockExpirationTime() != null)
+                    && job.getLockExpirationTime().after(now)) {
+                continue;
+            }
+            if (job.isSuspended()
+                    || (job.getRetries() <= 0)
+                    || ((job.getDuedate() != null) && job.getDuedate().after(now))) {
+                continue;
+            }
+
+            job.setLockOwner(lockOwner);
+            job.setLockExpirationTime(lockExpirationTime);
+            result.add(job);
+        }
+
+        return result;
+
+    }
+
+}
@@ -0,0 +1,45 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import java.util.List;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+
+/*
+ * Unlocks jobs locked by the given lock owner, so they can be acquired again
+ * immediately instead of after their lock expired.
+ */
+public class UnlockJobsCommand implements Command<Void> {
+
+    private final List<String> jobIds;
+
+    private final String lockOwner;
+
+    public UnlockJobsCommand(
+            final List<String> jobIds,
+            final String lockOwner) {
+
+        this.jobIds = jobIds;
+        this.lockOwner = lockOwner;
+
+    }
+
+    @Override
+    public Void execute(
+            final CommandContext commandContext) {
+
+        final var jobManager = commandContext.getJobManager();
+        jobIds.forEach(jobId -> {
+            final var job = jobManager.findJobById(jobId);
+            if ((job == null)
+                    || !lockOwner.equals(job.getLockOwner())) {
+                return;
+            }
+            job.setLockOwner(null);
+            job.setLockExpirationTime(null);
+        });
+
+        return null;
+
+    }
+
+}
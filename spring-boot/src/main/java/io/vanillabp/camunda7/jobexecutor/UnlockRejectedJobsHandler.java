@@ -0,0 +1,57 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import java.util.List;
+import org.camunda.bpm.engine.impl.ProcessEngineImpl;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.NotifyAcquisitionRejectedJobsHandler;
+import org.camunda.bpm.engine.impl.jobexecutor.SequentialJobAcquisitionRunnable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+ * Unlocks jobs rejected by the task executor (e.g. because of a concurrency limit)
+ * and notifies the acquisition about the rejection. Camunda's
+ * NotifyAcquisitionRejectedJobsHandler only notifies the acquisition, which leaves
+ * the jobs locked until their lock expires (5 minutes by default).
+ */
+public class UnlockRejectedJobsHandler extends NotifyAcquisitionRejectedJobsHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(UnlockRejectedJobsHandler.class);
+
+    @Override
+    public void jobsRejected(
+            final List<String> jobIds,
+            final ProcessEngineImpl processEngine,
+            final JobExecutor jobExecutor) {
+
+        // otherwise jobs are executed by the caller
+        if (jobExecutor.getAcquireJobsRunnable() instanceof SequentialJobAcquisitionRunnable) {
+            unlockJobs(jobIds, processEngine, jobExecutor);
+        }
+
+        super.jobsRejected(jobIds, processEngine, jobExecutor);
+
+    }
+
+    /*
+     * Unlocks the jobs without notifying the acquisition, used for jobs not
+     * acquired by the acquisition (see JobHandOff).
+     */
+    static void unlockJobs(
+            final List<String> jobIds,
+            final ProcessEngineImpl processEngine,
+            final JobExecutor jobExecutor) {
+
+        try {
+            processEngine
+                    .getProcessEngineConfiguration()
+                    .getCommandExecutorTxRequiresNew()
+                    .execute(new UnlockJobsCommand(jobIds, jobExecutor.getLockOwner()));
+        } catch (Exception e) {
+            logger.warn("Could not unlock rejected jobs {}, they are executed once their lock expired",
+                    jobIds, e);
+        }
+
+    }
+
+}
@@ -0,0 +1,101 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+/*
+ * Runs each task on a new virtual thread. The number of tasks running
+ * concurrently is limited by a semaphore. The job-executor acquires no more
+ * jobs than permits are available (see WakeupBackoffJobAcquisitionStrategy),
+ * tasks exceeding the limit anyway are rejected and their jobs are unlocked
+ * for the next acquisition cycle (see UnlockRejectedJobsHandler).
+ *
+ * Since this adapter is built for Java 17 virtual threads are looked up at
+ * runtime and require Java 21 or above. The executor is shut down once the
+ * Spring context is closed.
+ */
+public class VirtualThreadTaskExecutor implements TaskExecutor, DisposableBean {
+
+    private final ExecutorService executorService;
+
+    private final Semaphore permits;
+
+    private final int maxConcurrency;
+
+    public VirtualThreadTaskExecutor(
+            final int maxConcurrency) {
+
+        this.executorService = newVirtualThreadPerTaskExecutor();
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(
+                    "Running jobs on virtual threads requires Java 21 or above, but running on Java "
+                    + Runtime.version());
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not create virtual thread executor", e);
+        }
+
+    }
+
+    @Override
+    public void execute(
+            final Runnable task) {
+
+        if (!permits.tryAcquire()) {
+            throw new TaskRejectedException(
+                    "Max concurrency of " + maxConcurrency + " jobs reached");
+        }
+
+        try {
+            executorService.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw new TaskRejectedException("Virtual thread executor rejected job", e);
+        }
+
+    }
+
+    @Override
+    public void destroy() {
+
+        executorService.shutdown();
+
+    }
+
+    public int getMaxConcurrency() {
+
+        return maxConcurrency;
+
+    }
+
+    /**
+     * @return The number of tasks which may be executed additionally at the moment
+     */
+    public int getAvailablePermits() {
+
+        return permits.availablePermits();
+
+    }
+
+}
@@ -2,7 +2,6 @@ package io.vanillabp.camunda7.jobexecutor;
 
 import org.camunda.bpm.engine.impl.jobexecutor.BackoffJobAcquisitionStrategy;
 import org.camunda.bpm.engine.impl.jobexecutor.JobAcquisitionContext;
-import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
 import org.camunda.bpm.engine.impl.util.ClassLoaderUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,17 +14,51 @@ public class WakeupBackoffJobAcquisitionStrategy extends BackoffJobAcquisitionSt
     
     public static long DEFAULT_EXECUTION_SATURATION_WAIT_TIME = 100;
     
-    private final JobExecutor jobExecutor;
+    private static final int MAX_ADAPTIVE_JOBS_FACTOR = 4;
+    
+    private final WakeupJobExecutor jobExecutor;
+    
+    private final JobDueDateTracker jobDueDateTracker;
+    
+    private final AdaptiveAcquisitionController adaptiveController;
     
     private long waitTime;
     
-    public WakeupBackoffJobAcquisitionStrategy(final JobExecutor jobExecutor) {
+    public WakeupBackoffJobAcquisitionStrategy(
+            final WakeupJobExecutor jobExecutor,
+            final JobDueDateTracker jobDueDateTracker) {
 
         super(jobExecutor);
         this.jobExecutor = jobExecutor;
+        this.jobDueDateTracker = jobDueDateTracker;
+        this.adaptiveController = jobExecutor.isAdaptiveAcquisition()
+                ? new AdaptiveAcquisitionController(
+                        jobExecutor.getMaxJobsPerAcquisition(),
+                        jobExecutor.getMaxJobsPerAcquisition() * MAX_ADAPTIVE_JOBS_FACTOR,
+                        jobExecutor.getMaxBackoff())
+                : null;
 
     }
     
+    @Override
+    public int getNumJobsToAcquire(
+            final String processEngine) {
+        
+        if (adaptiveController == null) {
+            final var numJobsToAcquire = super.getNumJobsToAcquire(processEngine);
+            if (!(jobExecutor.getTaskExecutor() instanceof VirtualThreadTaskExecutor virtualThreadTaskExecutor)) {
+                return numJobsToAcquire;
+            }
+            // do not acquire jobs exceeding the concurrency limit but at least one
+            // to detect execution saturation
+            return Math.max(1, Math.min(
+                    numJobsToAcquire,
+                    virtualThreadTaskExecutor.getAvailablePermits()));
+        }
+        return adaptiveController.getNumJobsToAcquire();
+        
+    }
+    
     @Override
     public long getWaitTime() {
         
@@ -40,15 +73,43 @@ public class WakeupBackoffJobAcquisitionStrategy extends BackoffJobAcquisitionSt
         super.reconfigure(context);
 
         waitTime = super.getWaitTime();
-        if ((waitTime == 0)
-                || ((waitTime != maxIdleWaitTime)
-                        && (waitTime != maxBackoffWaitTime))) {
+        if (adaptiveController != null) {
+            adaptiveController.update(context, jobExecutor.getFreeExecutorCapacity());
+        }
+        if (context
+                .getAcquiredJobsByEngine()
+                .values()
+                .stream()
+                .anyMatch(acquiredJobs -> acquiredJobs.size() > 0)) {
+            // executed jobs may have changed due-dates
+            jobDueDateTracker.invalidate();
+        }
+        if (idleLevel == 0) {
+            // full batches were acquired or jobs were added
+            if ((adaptiveController != null)
+                    && !executionSaturated) {
+                waitTime = adaptiveController.getBusyWaitTime();
+            }
+            return;
+        }
+        if (waitTime != maxIdleWaitTime) {
+            // intermediate idle levels back off as usual
             return;
         }
         
         final var now = new Date();
+        
+        // timers of other nodes are not tracked, so query at least once per max-idle
+        final var trackedDueDate = jobDueDateTracker.getEarliestDueDate(now.getTime(), maxIdleWaitTime);
+        if (trackedDueDate != JobDueDateTracker.UNKNOWN) {
+            waitTime = trackedDueDate - now.getTime();
+            logWaitTime(trackedDueDate);
+            return;
+        }
+        
         var earliestDueDate = new Date(Long.MAX_VALUE);
         
+        jobDueDateTracker.beforeQuery();
         final var engineIterator = jobExecutor.engineIterator();
         final var classLoaderBeforeExecution = ClassLoaderUtil.switchToProcessEngineClassloader();
         try {
@@ -69,7 +130,7 @@ public class WakeupBackoffJobAcquisitionStrategy extends BackoffJobAcquisitionSt
                         .duedateHigherThan(now)
                         .orderByJobDuedate()
                         .asc()
-                        .list();
+                        .listPage(0, 1);
                 if (jobs.isEmpty()) {
                     continue;
                 }
@@ -84,11 +145,8 @@ public class WakeupBackoffJobAcquisitionStrategy extends BackoffJobAcquisitionSt
             }
             
             waitTime = earliestDueDate.getTime() - now.getTime();
-            if (earliestDueDate.getTime() == Long.MAX_VALUE) {
-                logger.debug("No Job found having due-date set, JobExecutor will wait until external interaction");
-            } else {
-                logger.debug("Job with due-date set found, will wait until {}", earliestDueDate);
-            }
+            jobDueDateTracker.afterQuery(earliestDueDate.getTime(), now.getTime());
+            logWaitTime(earliestDueDate.getTime());
             
         } catch (Exception e) {
             
@@ -102,4 +160,15 @@ public class WakeupBackoffJobAcquisitionStrategy extends BackoffJobAcquisitionSt
         
     }
 
+    private void logWaitTime(
+            final long earliestDueDate) {
+        
+        if (earliestDueDate == JobDueDateTracker.NONE) {
+            logger.debug("No Job found having due-date set, JobExecutor will wait until external interaction");
+        } else {
+            logger.debug("Job with due-date set found, will wait until {}", new Date(earliestDueDate));
+        }
+        
+    }
+
 }
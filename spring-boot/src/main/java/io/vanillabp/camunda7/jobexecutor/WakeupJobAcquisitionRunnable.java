@@ -1,22 +1,26 @@
 package io.vanillabp.camunda7.jobexecutor;
 
 import org.camunda.bpm.engine.impl.jobexecutor.JobAcquisitionStrategy;
-import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
 import org.camunda.bpm.engine.impl.jobexecutor.SequentialJobAcquisitionRunnable;
 
 public class WakeupJobAcquisitionRunnable extends SequentialJobAcquisitionRunnable {
 
+    private final WakeupJobExecutor wakeupJobExecutor;
+
     public WakeupJobAcquisitionRunnable(
-            final JobExecutor jobExecutor) {
+            final WakeupJobExecutor jobExecutor) {
         
         super(jobExecutor);
+        this.wakeupJobExecutor = jobExecutor;
         
     }
 
     @Override
     protected JobAcquisitionStrategy initializeAcquisitionStrategy() {
         
-        return new WakeupBackoffJobAcquisitionStrategy(jobExecutor);
+        return new WakeupBackoffJobAcquisitionStrategy(
+                wakeupJobExecutor,
+                wakeupJobExecutor.getJobDueDateTracker());
         
     }
     
@@ -1,9 +1,21 @@
 package io.vanillabp.camunda7.jobexecutor;
 
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import org.camunda.bpm.engine.impl.ProcessEngineImpl;
+import org.camunda.bpm.engine.impl.jobexecutor.RejectedJobsHandler;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
 import org.camunda.bpm.engine.spring.components.jobexecutor.SpringJobExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 public class WakeupJobExecutor extends SpringJobExecutor {
 
+    private final JobDueDateTracker jobDueDateTracker = new JobDueDateTracker();
+
+    private JobExecutorLanes jobExecutorLanes;
+
+    private boolean adaptiveAcquisition;
+
     @Override
     protected void ensureInitialization() {
 
@@ -11,5 +23,139 @@ public class WakeupJobExecutor extends SpringJobExecutor {
         acquireJobsRunnable = new WakeupJobAcquisitionRunnable(this);
         
     }
+
+    public JobDueDateTracker getJobDueDateTracker() {
+
+        return jobDueDateTracker;
+
+    }
+
+    public boolean isAdaptiveAcquisition() {
+
+        return adaptiveAcquisition;
+
+    }
+
+    public void setAdaptiveAcquisition(
+            final boolean adaptiveAcquisition) {
+
+        this.adaptiveAcquisition = adaptiveAcquisition;
+
+    }
+
+    /**
+     * @return The number of jobs the task executor is able to take at the moment
+     *         or {@link Integer#MAX_VALUE} if unknown
+     */
+    public int getFreeExecutorCapacity() {
+
+        final var taskExecutor = getTaskExecutor();
+        if (taskExecutor instanceof VirtualThreadTaskExecutor virtualThreadTaskExecutor) {
+            return virtualThreadTaskExecutor.getAvailablePermits();
+        }
+        if (taskExecutor instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+            try {
+                final var threadPool = threadPoolTaskExecutor.getThreadPoolExecutor();
+                // unbounded queues report Integer.MAX_VALUE as remaining capacity
+                final long capacity = (long) threadPool.getQueue().remainingCapacity()
+                        + Math.max(0, threadPool.getMaximumPoolSize() - threadPool.getActiveCount());
+                return (int) Math.min(Integer.MAX_VALUE, capacity);
+            } catch (IllegalStateException e) {
+                // not yet initialized
+                return Integer.MAX_VALUE;
+            }
+        }
+        return Integer.MAX_VALUE;
+
+    }
+
+    public void setJobExecutorLanes(
+            final JobExecutorLanes jobExecutorLanes) {
+
+        this.jobExecutorLanes = jobExecutorLanes;
+        setAcquireJobsCmdFactory(new LaneAwareAcquireJobsCommandFactory(this, jobExecutorLanes));
+
+    }
+
+    @Override
+    public void executeJobs(
+            final List<String> jobIds,
+            final ProcessEngineImpl processEngine) {
+
+        final var lane = jobExecutorLanes == null ? null : jobExecutorLanes.getLane(jobIds);
+        if (lane == null) {
+            super.executeJobs(jobIds, processEngine);
+            return;
+        }
+
+        executeLaneJobs(lane, jobIds, processEngine, getRejectedJobsHandler());
+
+    }
+
+    /**
+     * Executes jobs locked by their ids instead of being acquired (see JobHandOff).
+     * In contrast to {@link #executeJobs(List, ProcessEngineImpl)} the jobs' lanes
+     * are resolved by the jobs' attributes and rejected jobs are passed to the given
+     * handler since the acquisition does not know about them.
+     *
+     * @param jobs The jobs locked
+     * @param processEngine The engine the jobs belong to
+     * @param rejectedJobsHandler The handler for jobs rejected
+     */
+    public void executeHandedOffJobs(
+            final List<JobEntity> jobs,
+            final ProcessEngineImpl processEngine,
+            final RejectedJobsHandler rejectedJobsHandler) {
+
+        jobs.forEach(job -> {
+            final var jobIds = List.of(job.getId());
+            final var lane = jobExecutorLanes == null ? null : jobExecutorLanes.findLane(job);
+            if (lane != null) {
+                executeLaneJobs(lane, jobIds, processEngine, rejectedJobsHandler);
+                return;
+            }
+            try {
+                getTaskExecutor().execute(getExecuteJobsRunnable(jobIds, processEngine));
+            } catch (RejectedExecutionException e) {
+                logRejectedExecution(processEngine, jobIds.size());
+                rejectedJobsHandler.jobsRejected(jobIds, processEngine, this);
+            }
+        });
+
+    }
+
+    private void executeLaneJobs(
+            final JobExecutorLane lane,
+            final List<String> jobIds,
+            final ProcessEngineImpl processEngine,
+            final RejectedJobsHandler rejectedJobsHandler) {
+
+        // limit the number of jobs running concurrently per lane,
+        // rejected jobs are unlocked by the rejected jobs handler
+        if (!lane.tryAcquireSlot()) {
+            jobExecutorLanes.jobsReleased(jobIds);
+            logRejectedExecution(processEngine, jobIds.size());
+            rejectedJobsHandler.jobsRejected(jobIds, processEngine, this);
+            return;
+        }
+
+        final var executeJobsRunnable = getExecuteJobsRunnable(jobIds, processEngine);
+        try {
+            getTaskExecutor().execute(() -> {
+                try {
+                    executeJobsRunnable.run();
+                } finally {
+                    jobExecutorLanes.jobsReleased(jobIds);
+                    lane.releaseSlot();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            jobExecutorLanes.jobsReleased(jobIds);
+            lane.releaseSlot();
+            logRejectedExecution(processEngine, jobIds.size());
+            rejectedJobsHandler.jobsRejected(jobIds, processEngine, this);
+        }
+
+    }
     
 }
@@ -1,11 +1,12 @@
 package io.vanillabp.camunda7.jobexecutor;
 
+import io.vanillabp.camunda7.Camunda7VanillaBpProperties;
 import io.vanillabp.camunda7.cockpit.WakeupFilter;
 import io.vanillabp.camunda7.service.WakupJobExecutorService;
+import io.vanillabp.camunda7.service.jobs.startprocess.StartProcessCommand;
+import io.vanillabp.camunda7.service.jobs.startprocess.StartProcessesJobHandler;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
-import org.camunda.bpm.engine.impl.jobexecutor.NotifyAcquisitionRejectedJobsHandler;
-import org.camunda.bpm.engine.spring.components.jobexecutor.SpringJobExecutor;
 import org.camunda.bpm.spring.boot.starter.configuration.impl.DefaultJobConfiguration.JobConfiguration;
 import org.camunda.bpm.spring.boot.starter.property.CamundaBpmProperties;
 import org.camunda.bpm.spring.boot.starter.property.JobExecutionProperty;
@@ -14,6 +15,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.ApplicationEventPublisher;
@@ -24,7 +26,11 @@ import org.springframework.core.annotation.Order;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.TaskScheduler;
 
+import java.time.Duration;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Configuration
 @AutoConfigureOrder(Ordered.HIGHEST_PRECEDENCE)
@@ -36,21 +42,54 @@ import java.util.Optional;
 public class WakeupJobExecutorConfiguration {
 
     private static final Logger logger = LoggerFactory.getLogger(WakeupJobExecutorConfiguration.class);
+
+    public static final String VIRTUAL_THREAD_TASK_EXECUTOR = "vanillabpVirtualThreadTaskExecutor";
     
     @Value("${camunda.bpm.webapp.application-path:/camunda}")
     private String camundaWebAppBaseUrl;
 
+    @Value("${camunda.bpm.job-execution.wakeup-cluster-polling-interval:PT0.2S}")
+    private Duration wakeupClusterPollingInterval;
+
+    @Value("${camunda.bpm.job-execution.wakeup-min-interval:PT0.1S}")
+    private Duration wakeupMinInterval;
+
+    /*
+     * Not a default candidate to not interfere with injecting other task executors by type.
+     */
+    @Bean(name = VIRTUAL_THREAD_TASK_EXECUTOR, defaultCandidate = false)
+    @ConditionalOnProperty(
+            prefix = "camunda.bpm.job-execution",
+            name = "wakeup-virtual-threads",
+            havingValue = "true",
+            matchIfMissing = false)
+    public static VirtualThreadTaskExecutor virtualThreadTaskExecutor(
+            @Value("${camunda.bpm.job-execution.wakeup-virtual-threads-max-concurrency:1000}") final int maxConcurrency) {
+
+        return new VirtualThreadTaskExecutor(maxConcurrency);
+
+    }
+
     @Bean
     @Order(-1)
     public static JobExecutor jobExecutor(
             @Qualifier(JobConfiguration.CAMUNDA_TASK_EXECUTOR_QUALIFIER) final TaskExecutor taskExecutor,
+            @Qualifier(VIRTUAL_THREAD_TASK_EXECUTOR) final Optional<VirtualThreadTaskExecutor> virtualThreadTaskExecutor,
+            @Value("${camunda.bpm.job-execution.wakeup-adaptive-acquisition:false}") final boolean adaptiveAcquisition,
             CamundaBpmProperties properties) {
         
         logger.info("VanillaBP's job-executor is using jobExecutorPreferTimerJobs=true and jobExecutorAcquireByDueDate=true. Please add DB-index according to https://docs.camunda.org/manual/7.6/user-guide/process-engine/the-job-executor/#the-job-order-of-job-acquisition");
         
-        final SpringJobExecutor springJobExecutor = new WakeupJobExecutor();
-        springJobExecutor.setTaskExecutor(taskExecutor);
-        springJobExecutor.setRejectedJobsHandler(new NotifyAcquisitionRejectedJobsHandler());
+        final var springJobExecutor = new WakeupJobExecutor();
+        springJobExecutor.setAdaptiveAcquisition(adaptiveAcquisition);
+        if (virtualThreadTaskExecutor.isPresent()) {
+            logger.info("VanillaBP's job-executor is running jobs on virtual threads limited to {} concurrent jobs",
+                    virtualThreadTaskExecutor.get().getMaxConcurrency());
+            springJobExecutor.setTaskExecutor(virtualThreadTaskExecutor.get());
+        } else {
+            springJobExecutor.setTaskExecutor(taskExecutor);
+        }
+        springJobExecutor.setRejectedJobsHandler(new UnlockRejectedJobsHandler());
 
         JobExecutionProperty jobExecution = properties.getJobExecution();
         Optional.ofNullable(jobExecution.getLockTimeInMillis()).ifPresent(springJobExecutor::setLockTimeInMillis);
@@ -66,11 +105,87 @@ public class WakeupJobExecutorConfiguration {
         
     }
 
+    @Bean
+    public WakeupJobExecutorPlugin wakeupJobExecutorPlugin(
+            final JobExecutor jobExecutor,
+            final Camunda7VanillaBpProperties camunda7Properties,
+            @Value("${camunda.bpm.job-execution.wakeup-start-process-hand-off:false}") final boolean startProcessHandOff) {
+
+        final var wakeupJobExecutor = (WakeupJobExecutor) jobExecutor;
+        final var lanes = buildJobExecutorLanes(camunda7Properties);
+        if (!lanes.isEmpty()) {
+            wakeupJobExecutor.setJobExecutorLanes(new JobExecutorLanes(lanes));
+        }
+        final var jobHandOff = startProcessHandOff
+                ? new JobHandOff(wakeupJobExecutor, Set.of(StartProcessCommand.TYPE, StartProcessesJobHandler.TYPE))
+                : null;
+
+        return new WakeupJobExecutorPlugin(wakeupJobExecutor, jobHandOff);
+
+    }
+
+    private static List<JobExecutorLane> buildJobExecutorLanes(
+            final Camunda7VanillaBpProperties camunda7Properties) {
+
+        final var result = new LinkedList<JobExecutorLane>();
+        camunda7Properties
+                .getWorkflowModules()
+                .keySet()
+                .forEach(workflowModuleId -> camunda7Properties
+                        .getJobExecutorLanes(workflowModuleId)
+                        .forEach((name, lane) -> {
+                            logger.info("Job-executor lane '{}' of workflow module '{}' using share {} and max. {} concurrent jobs",
+                                    name,
+                                    workflowModuleId,
+                                    lane.getAcquisitionShare(),
+                                    lane.getMaxConcurrentJobs());
+                            result.add(new JobExecutorLane(
+                                    workflowModuleId + "." + name,
+                                    camunda7Properties.getTenantId(workflowModuleId),
+                                    Set.copyOf(lane.getJobHandlerTypes()),
+                                    Set.copyOf(lane.getBpmnProcessIds()),
+                                    lane.getAcquisitionShare(),
+                                    lane.getMaxConcurrentJobs()));
+                        }));
+        return result;
+
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(
+            prefix = "camunda.bpm.job-execution",
+            name = "wakeup-cluster",
+            havingValue = "true",
+            matchIfMissing = false)
+    public ClusterWakeupChannel clusterWakeupChannel(
+            final ProcessEngine processEngine,
+            final Optional<TaskScheduler> taskScheduler) {
+
+        if (taskScheduler.isEmpty()) {
+            throw new RuntimeException(
+                    "To use cluster wakeup of job-executor you have to provide Spring Boot task scheduler! "
+                    + "(For details see https://github.com/vanillabp/camunda7-adapter/blob/main/spring-boot/README.md#job-executor)");
+        }
+
+        return new DatabasePollingClusterWakeupChannel(
+                processEngine,
+                taskScheduler.get(),
+                wakeupClusterPollingInterval);
+
+    }
+
     @Bean
     public WakupJobExecutorService wakupJobExecutorService(
-            final ProcessEngine processEngine) {
+            final ProcessEngine processEngine,
+            final Optional<ClusterWakeupChannel> clusterWakeupChannel,
+            final Optional<TaskScheduler> taskScheduler) {
         
-        return new WakupJobExecutorService(processEngine);
+        return new WakupJobExecutorService(
+                processEngine,
+                clusterWakeupChannel.orElse(null),
+                taskScheduler.orElse(null),
+                wakeupMinInterval);
         
     }
 
@@ -0,0 +1,50 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import io.vanillabp.camunda7.utils.MybatisMappings;
+import java.util.LinkedList;
+import org.camunda.bpm.engine.impl.cfg.AbstractProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+
+public class WakeupJobExecutorPlugin extends AbstractProcessEnginePlugin {
+
+    private final WakeupJobExecutor jobExecutor;
+
+    private final JobHandOff jobHandOff;
+
+    public WakeupJobExecutorPlugin(
+            final WakeupJobExecutor jobExecutor,
+            final JobHandOff jobHandOff) {
+
+        this.jobExecutor = jobExecutor;
+        this.jobHandOff = jobHandOff;
+
+    }
+
+    @Override
+    public void preInit(
+            final ProcessEngineConfigurationImpl configuration) {
+
+        // track due-dates of timers scheduled and hand-off jobs created
+        if (configuration.getCustomSessionFactories() == null) {
+            configuration.setCustomSessionFactories(new LinkedList<>());
+        }
+        configuration
+                .getCustomSessionFactories()
+                .add(new WakeupJobManagerFactory(
+                        jobExecutor.getJobDueDateTracker(),
+                        jobHandOff));
+
+    }
+
+    @Override
+    public void postInit(
+            final ProcessEngineConfigurationImpl configuration) {
+
+        // statements used for job-executor lanes
+        MybatisMappings.add(
+                configuration.getSqlSessionFactory().getConfiguration(),
+                WakeupJobManager.LANE_JOB_MAPPING);
+
+    }
+
+}
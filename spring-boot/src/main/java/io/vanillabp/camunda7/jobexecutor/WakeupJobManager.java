@@ -0,0 +1,166 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import org.camunda.bpm.engine.impl.Page;
+import org.camunda.bpm.engine.impl.QueryOrderingProperty;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.persistence.entity.AcquirableJobEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.JobManager;
+import org.camunda.bpm.engine.impl.persistence.entity.MessageEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.TimerEntity;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+
+/*
+ * Job manager reporting due-dates of timers scheduled to the job-executor's
+ * due-date tracker once the scheduling transaction is committed. Additionally,
+ * jobs applicable are handed off to the local job-executor after commit.
+ * For job-executor lanes the acquisition query is narrowed to the jobs of one
+ * lane (see LaneJob.xml).
+ */
+public class WakeupJobManager extends JobManager {
+
+    static final String LANE_JOB_MAPPING = "io/vanillabp/camunda7/jobexecutor/LaneJob.xml";
+
+    private static final String SELECT_NEXT_LANE_JOBS_TO_EXECUTE = "selectNextLaneJobsToExecute";
+
+    private final JobDueDateTracker jobDueDateTracker;
+
+    private final JobHandOff jobHandOff;
+
+    private List<String> handOffJobIds;
+
+    public WakeupJobManager(
+            final JobDueDateTracker jobDueDateTracker,
+            final JobHandOff jobHandOff) {
+
+        super();
+        this.jobDueDateTracker = jobDueDateTracker;
+        this.jobHandOff = jobHandOff;
+
+    }
+
+    @Override
+    public void send(
+            final MessageEntity message) {
+
+        super.send(message);
+
+        if ((jobHandOff == null)
+                || !jobHandOff.appliesTo(message)) {
+            return;
+        }
+
+        if (handOffJobIds == null) {
+            handOffJobIds = new LinkedList<>();
+            final var jobIds = handOffJobIds;
+            final var processEngine = Context
+                    .getProcessEngineConfiguration()
+                    .getProcessEngine();
+            Context
+                    .getCommandContext()
+                    .getTransactionContext()
+                    .addTransactionListener(
+                            TransactionState.COMMITTED,
+                            commandContext -> jobHandOff.handOff(processEngine, jobIds));
+        }
+        handOffJobIds.add(message.getId());
+
+    }
+
+    @Override
+    public void schedule(
+            final TimerEntity timer) {
+
+        super.schedule(timer);
+        reportDueDateOnCommit(timer.getDuedate());
+
+    }
+
+    @Override
+    public void reschedule(
+            final JobEntity jobEntity,
+            final Date newDuedate) {
+
+        super.reschedule(jobEntity, newDuedate);
+        reportDueDateOnCommit(jobEntity.getDuedate());
+
+    }
+
+    private void reportDueDateOnCommit(
+            final Date dueDate) {
+
+        if (dueDate == null) {
+            return;
+        }
+        Context
+                .getCommandContext()
+                .getTransactionContext()
+                .addTransactionListener(
+                        TransactionState.COMMITTED,
+                        commandContext -> jobDueDateTracker.jobScheduled(dueDate));
+
+    }
+
+    /**
+     * Same as {@link #findNextJobsToExecute(Page)} but limited to the jobs of
+     * the given lane which do not belong to any of the preceding lanes.
+     *
+     * @param lane The lane or null for jobs not belonging to any of the preceding lanes
+     * @param precedingLanes The lanes having precedence over the given lane
+     * @param page The max. number of jobs to be found
+     */
+    @SuppressWarnings("unchecked")
+    public List<AcquirableJobEntity> findNextLaneJobsToExecute(
+            final JobExecutorLane lane,
+            final List<JobExecutorLane> precedingLanes,
+            final Page page) {
+
+        // same parameters as used by JobManager#findNextJobsToExecute
+        final var processEngineConfiguration = Context.getProcessEngineConfiguration();
+        final var parameters = new HashMap<String, Object>();
+        parameters.put("now", ClockUtil.getCurrentTime());
+        parameters.put("alwaysSetDueDate", isEnsureJobDueDateNotNull());
+        parameters.put("deploymentAware", processEngineConfiguration.isJobExecutorDeploymentAware());
+        if (processEngineConfiguration.isJobExecutorDeploymentAware()) {
+            final var registeredDeployments = processEngineConfiguration.getRegisteredDeployments();
+            if (!registeredDeployments.isEmpty()) {
+                parameters.put("deploymentIds", registeredDeployments);
+            }
+        }
+        final var acquireByPriority = processEngineConfiguration.isJobExecutorAcquireByPriority();
+        final var priorityRangeMin = processEngineConfiguration.getJobExecutorPriorityRangeMin();
+        final var priorityRangeMax = processEngineConfiguration.getJobExecutorPriorityRangeMax();
+        parameters.put("jobPriorityMin",
+                acquireByPriority && (priorityRangeMin != Long.MIN_VALUE) ? priorityRangeMin : null);
+        parameters.put("jobPriorityMax",
+                acquireByPriority && (priorityRangeMax != Long.MAX_VALUE) ? priorityRangeMax : null);
+        parameters.put("historyCleanupEnabled", processEngineConfiguration.isHistoryCleanupEnabled());
+        final var orderingProperties = new ArrayList<QueryOrderingProperty>();
+        if (acquireByPriority) {
+            orderingProperties.add(JOB_PRIORITY_ORDERING_PROPERTY);
+        }
+        if (processEngineConfiguration.isJobExecutorPreferTimerJobs()) {
+            orderingProperties.add(JOB_TYPE_ORDERING_PROPERTY);
+        }
+        if (processEngineConfiguration.isJobExecutorAcquireByDueDate()) {
+            orderingProperties.add(JOB_DUEDATE_ORDERING_PROPERTY);
+        }
+        parameters.put("orderingProperties", orderingProperties);
+        parameters.put("applyOrdering", !orderingProperties.isEmpty());
+        parameters.put("applyExclusiveOverProcessHierarchies",
+                processEngineConfiguration.isJobExecutorAcquireExclusiveOverProcessHierarchies());
+
+        parameters.put("lane", lane);
+        parameters.put("precedingLanes", precedingLanes);
+
+        return getDbEntityManager().selectList(SELECT_NEXT_LANE_JOBS_TO_EXECUTE, parameters, page);
+
+    }
+
+}
@@ -0,0 +1,37 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import org.camunda.bpm.engine.impl.interceptor.Session;
+import org.camunda.bpm.engine.impl.interceptor.SessionFactory;
+import org.camunda.bpm.engine.impl.persistence.entity.JobManager;
+
+public class WakeupJobManagerFactory implements SessionFactory {
+
+    private final JobDueDateTracker jobDueDateTracker;
+
+    private final JobHandOff jobHandOff;
+
+    public WakeupJobManagerFactory(
+            final JobDueDateTracker jobDueDateTracker,
+            final JobHandOff jobHandOff) {
+
+        this.jobDueDateTracker = jobDueDateTracker;
+        this.jobHandOff = jobHandOff;
+
+    }
+
+    @Override
+    public Class<?> getSessionType() {
+
+        // replaces Camunda's job manager
+        return JobManager.class;
+
+    }
+
+    @Override
+    public Session openSession() {
+
+        return new WakeupJobManager(jobDueDateTracker, jobHandOff);
+
+    }
+
+}
@@ -3,23 +3,36 @@ package io.vanillabp.camunda7.service;
 import io.vanillabp.camunda7.Camunda7AdapterConfiguration;
 import io.vanillabp.camunda7.Camunda7VanillaBpProperties;
 import io.vanillabp.camunda7.LoggingContext;
+import io.vanillabp.camunda7.service.correlation.BulkCorrelateMessageCommand;
+import io.vanillabp.camunda7.service.correlation.BulkMessageCorrelation;
+import io.vanillabp.camunda7.service.correlation.BulkMessageCorrelationResult;
+import io.vanillabp.camunda7.service.correlation.CorrelateMessageCommand;
 import io.vanillabp.camunda7.service.jobs.startprocess.StartProcessCommand;
+import io.vanillabp.camunda7.service.jobs.startprocess.StartProcessesCommand;
+import io.vanillabp.camunda7.service.usertask.BulkUserTaskCompletion;
+import io.vanillabp.camunda7.service.usertask.BulkUserTaskCompletionCommand;
+import io.vanillabp.camunda7.service.usertask.UserTaskCompletionCommand;
 import io.vanillabp.springboot.adapter.AdapterAwareProcessService;
 import io.vanillabp.springboot.adapter.ProcessServiceImplementation;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Function;
 import org.camunda.bpm.engine.ProcessEngine;
-import org.camunda.bpm.engine.exception.NullValueException;
+import org.camunda.bpm.engine.impl.MessageCorrelationBuilderImpl;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class Camunda7ProcessService<DE>
         implements ProcessServiceImplementation<DE> {
 
     private static final Logger logger = LoggerFactory.getLogger(Camunda7ProcessService.class);
+
+    private static final int BULK_QUERY_CHUNK_SIZE = 500;
     
     private final ApplicationEventPublisher applicationEventPublisher;
     
@@ -189,6 +202,73 @@ public class Camunda7ProcessService<DE>
 
     }
 
+    /**
+     * Starts workflows for all given aggregates. In comparison to calling
+     * {@link #startWorkflow(Object)} for each aggregate, all aggregates are
+     * saved at once, one start-job per chunk of 500 aggregates is created
+     * within one Camunda command and the job-executor is woken up only once.
+     *
+     * @param workflowAggregates The aggregates to start workflows for
+     * @return The attached aggregates
+     */
+    public List<DE> startWorkflows(
+            final Collection<DE> workflowAggregates) throws Exception {
+
+        if (workflowAggregates.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+
+            final var attachedAggregates = new ArrayList<DE>(workflowAggregates.size());
+            workflowAggregateRepository
+                    .saveAll(workflowAggregates)
+                    .forEach(attachedAggregates::add);
+
+            final var aggregateIds = attachedAggregates
+                    .stream()
+                    .map(attachedAggregate -> getWorkflowAggregateId
+                            .apply(attachedAggregate)
+                            .toString())
+                    .toList();
+
+            final var tenantId = camunda7Properties.getTenantId(parent.getWorkflowModuleId());
+            final var bpmnProcessId = parent.getPrimaryBpmnProcessId();
+            LoggingContext.setLoggingContext(
+                    Camunda7AdapterConfiguration.ADAPTER_ID,
+                    tenantId,
+                    parent.getWorkflowModuleId(),
+                    null,
+                    bpmnProcessId,
+                    null,
+                    null,
+                    null,
+                    null);
+
+            wakeupJobExecutorOnActivity();
+
+            final var jobIds = ((ProcessEngineConfigurationImpl) processEngine
+                    .getProcessEngineConfiguration())
+                    .getCommandExecutorTxRequired()
+                    .execute(new StartProcessesCommand(
+                            tenantId,
+                            bpmnProcessId,
+                            aggregateIds));
+
+            logger.trace("Created {} start-jobs for {} instances of process '{}' (tenant: {})",
+                    jobIds.size(),
+                    aggregateIds.size(),
+                    bpmnProcessId,
+                    tenantId);
+
+            return attachedAggregates;
+
+        } finally {
+            LoggingContext.clearContext();
+        }
+
+    }
+
     @Override
     public DE correlateMessage(
             final DE workflowAggregate,
@@ -279,21 +359,12 @@ public class Camunda7ProcessService<DE>
                     null,
                     null);
 
-            final var correlation =
-                    (tenantId == null
-                            ? processEngine
-                                    .getRuntimeService()
-                                    .createMessageCorrelation(messageName)
-                            : processEngine
-                                    .getRuntimeService()
-                                    .createMessageCorrelation(messageName)
-                                    .tenantId(tenantId))
-                    .processInstanceBusinessKey(aggregateId);
-            if (correlationIdLocalVariableName != null) {
-                correlation.localVariableEquals(
-                        correlationIdLocalVariableName,
-                        correlationId);
-            }
+            final var correlation = newMessageCorrelation(
+                    messageName,
+                    tenantId,
+                    aggregateId,
+                    correlationIdLocalVariableName,
+                    correlationId);
 
             wakeupJobExecutorOnActivity();
 
@@ -310,26 +381,14 @@ public class Camunda7ProcessService<DE>
 
             }
             
-            final var correlationExecutions =
-                    (tenantId == null
-                            ? processEngine
-                                    .getRuntimeService()
-                                    .createExecutionQuery()
-                            : processEngine
-                                    .getRuntimeService()
-                                    .createExecutionQuery()
-                                    .tenantIdIn(tenantId))
-                    .messageEventSubscriptionName(messageName)
-                    .processInstanceBusinessKey(aggregateId)
-                    .active();
-            if (correlationIdLocalVariableName != null) {
-                correlationExecutions.variableValueEquals(
-                        correlationIdLocalVariableName,
-                        correlationId);
-            }
-            final var hasMessageCorrelation = correlationExecutions.count() == 1;
+            // test for subscription and correlate within one command
+            correlation.executionsOnly();
+            final var correlationResult = ((ProcessEngineConfigurationImpl) processEngine
+                    .getProcessEngineConfiguration())
+                    .getCommandExecutorTxRequired()
+                    .execute(new CorrelateMessageCommand(correlation));
 
-            if (!hasMessageCorrelation) {
+            if (correlationResult == null) {
 
                 logger.trace("Message '{}' of process having bpmn-process-id '{}' could "
                         + "not be correlated using correlation-id '{}' for workflow aggregate '{}'!",
@@ -342,9 +401,7 @@ public class Camunda7ProcessService<DE>
 
             }
 
-            final var result = correlation
-                    .correlateWithResult()
-                    .getExecution();
+            final var result = correlationResult.getExecution();
 
             logger.trace("Correlated message '{}' using correlation-id '{}' for process '{}#{}' "
                     + "and execution '{}' (tenant: {})",
@@ -363,6 +420,180 @@ public class Camunda7ProcessService<DE>
 
     }
 
+    private MessageCorrelationBuilderImpl newMessageCorrelation(
+            final String messageName,
+            final String tenantId,
+            final String aggregateId,
+            final String correlationIdLocalVariableName,
+            final String correlationId) {
+
+        final var correlation = new MessageCorrelationBuilderImpl(
+                ((ProcessEngineConfigurationImpl) processEngine
+                        .getProcessEngineConfiguration())
+                        .getCommandExecutorTxRequired(),
+                messageName);
+        if (tenantId != null) {
+            correlation.tenantId(tenantId);
+        }
+        correlation.processInstanceBusinessKey(aggregateId);
+        if (correlationIdLocalVariableName != null) {
+            correlation.localVariableEquals(
+                    correlationIdLocalVariableName,
+                    correlationId);
+        }
+        return correlation;
+
+    }
+
+    /**
+     * Correlates the message to the workflows of all given aggregates. Aggregates are
+     * saved at once, workflows waiting for the message are determined by a few queries
+     * per chunk of 500 aggregates and the job-executor is woken up only once.
+     * <p>
+     * If there is no surrounding transaction then each chunk is correlated in its own
+     * transaction. If a chunk fails then its items are correlated one by one, so only
+     * the items failing report an exception (see
+     * {@link BulkMessageCorrelationResult#getException()}). Within a surrounding
+     * transaction any exception is thrown since the transaction cannot be committed
+     * partially.
+     *
+     * @param messageName The message's name
+     * @param correlations The aggregates and optional correlation-ids
+     * @return The result for each item in the order given
+     */
+    public List<BulkMessageCorrelationResult<DE>> correlateMessages(
+            final String messageName,
+            final List<BulkMessageCorrelation<DE>> correlations) {
+
+        if (correlations.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+
+            final var isNewEntities = correlations
+                    .stream()
+                    .map(BulkMessageCorrelation::getWorkflowAggregate)
+                    .map(isNewEntity)
+                    .toList();
+
+            // persist to get ID in case of @Id @GeneratedValue
+            // and force optimistic locking exceptions before running
+            // the workflows if aggregates were already persisted before
+            final var attachedAggregates = new ArrayList<DE>(correlations.size());
+            workflowAggregateRepository
+                    .saveAll(correlations
+                            .stream()
+                            .map(BulkMessageCorrelation::getWorkflowAggregate)
+                            .toList())
+                    .forEach(attachedAggregates::add);
+
+            final var bpmnProcessId = parent.getPrimaryBpmnProcessId();
+            final var tenantId = camunda7Properties.getTenantId(parent.getWorkflowModuleId());
+            LoggingContext.setLoggingContext(
+                    Camunda7AdapterConfiguration.ADAPTER_ID,
+                    tenantId,
+                    parent.getWorkflowModuleId(),
+                    null,
+                    bpmnProcessId,
+                    null,
+                    null,
+                    null,
+                    null);
+
+            final var items = new ArrayList<BulkCorrelateMessageCommand.Item>(correlations.size());
+            for (int i = 0; i < correlations.size(); ++i) {
+                items.add(new BulkCorrelateMessageCommand.Item(
+                        getWorkflowAggregateId
+                                .apply(attachedAggregates.get(i))
+                                .toString(),
+                        correlations.get(i).getCorrelationId(),
+                        isNewEntities.get(i)));
+            }
+
+            wakeupJobExecutorOnActivity();
+
+            final var commandExecutor = ((ProcessEngineConfigurationImpl) processEngine
+                    .getProcessEngineConfiguration())
+                    .getCommandExecutorTxRequired();
+            final var correlationIdLocalVariableName = bpmnProcessId + "-" + messageName;
+            final var isolateFailures = !TransactionSynchronizationManager.isActualTransactionActive();
+
+            final var result = new ArrayList<BulkMessageCorrelationResult<DE>>(correlations.size());
+            for (int from = 0; from < items.size(); from += BULK_QUERY_CHUNK_SIZE) {
+
+                final var to = Math.min(from + BULK_QUERY_CHUNK_SIZE, items.size());
+                final var chunk = items.subList(from, to);
+
+                List<Boolean> correlated = null;
+                RuntimeException[] exceptions = null;
+                try {
+                    correlated = commandExecutor.execute(new BulkCorrelateMessageCommand(
+                            new MessageCorrelationBuilderImpl(commandExecutor, messageName),
+                            tenantId,
+                            correlationIdLocalVariableName,
+                            chunk));
+                } catch (RuntimeException e) {
+                    if (!isolateFailures) {
+                        throw e;
+                    }
+                    logger.debug("Bulk correlation of message '{}' failed, correlating items "
+                            + "one by one to isolate the failing ones", messageName, e);
+                    correlated = new ArrayList<>(chunk.size());
+                    exceptions = new RuntimeException[chunk.size()];
+                    for (int i = 0; i < chunk.size(); ++i) {
+                        try {
+                            correlated.addAll(commandExecutor.execute(new BulkCorrelateMessageCommand(
+                                    new MessageCorrelationBuilderImpl(commandExecutor, messageName),
+                                    tenantId,
+                                    correlationIdLocalVariableName,
+                                    List.of(chunk.get(i)))));
+                        } catch (RuntimeException itemException) {
+                            logger.warn("Could not correlate message '{}' for workflow aggregate '{}'!",
+                                    messageName,
+                                    chunk.get(i).businessKey(),
+                                    itemException);
+                            correlated.add(Boolean.FALSE);
+                            exceptions[i] = itemException;
+                        }
+                    }
+                }
+
+                for (int i = 0; i < chunk.size(); ++i) {
+
+                    final var item = chunk.get(i);
+                    if (!correlated.get(i)) {
+                        logger.trace("Message '{}' of process having bpmn-process-id '{}' could "
+                                + "not be correlated using correlation-id '{}' for workflow aggregate '{}'!",
+                                messageName,
+                                bpmnProcessId,
+                                item.correlationId(),
+                                item.businessKey());
+                    }
+                    result.add(new BulkMessageCorrelationResult<>(
+                            attachedAggregates.get(from + i),
+                            item.correlationId(),
+                            correlated.get(i),
+                            exceptions == null ? null : exceptions[i]));
+
+                }
+
+            }
+
+            logger.trace("Correlated message '{}' for {} of {} workflow aggregates (tenant: {})",
+                    messageName,
+                    result.stream().filter(BulkMessageCorrelationResult::isCorrelated).count(),
+                    result.size(),
+                    tenantId);
+
+            return result;
+
+        } finally {
+            LoggingContext.clearContext();
+        }
+
+    }
+
     @Override
     public DE completeUserTask(
             final DE workflowAggregate,
@@ -376,41 +607,30 @@ public class Camunda7ProcessService<DE>
             final var aggregateId = getWorkflowAggregateId.apply(workflowAggregate).toString();
 
             final var tenantId = camunda7Properties.getTenantId(parent.getWorkflowModuleId());
-            final var task = (tenantId == null
-                    ? processEngine
-                    .getTaskService()
-                    .createTaskQuery()
-                    : processEngine
-                    .getTaskService()
-                    .createTaskQuery()
-                    .tenantIdIn(tenantId))
-                    .processInstanceBusinessKey(aggregateId)
-                    .taskId(taskId)
-                    .singleResult();
-
-            if (task == null) {
-                throw new NullValueException("Task '"
-                        + taskId
-                        + "' not found!");
-            }
-
             final var bpmnProcessId = parent.getPrimaryBpmnProcessId();
-            LoggingContext.setLoggingContext(
-                    Camunda7AdapterConfiguration.ADAPTER_ID,
-                    tenantId,
-                    parent.getWorkflowModuleId(),
-                    aggregateId,
-                    bpmnProcessId,
-                    taskId,
-                    task.getProcessInstanceId(),
-                    task.getProcessDefinitionId() + "#" + task.getTaskDefinitionKey(),
-                    task.getExecutionId());
-
-            wakeupJobExecutorOnActivity();
 
-            processEngine
-                    .getTaskService()
-                    .complete(taskId);
+            // validate and complete within one command to load the task only once
+            ((ProcessEngineConfigurationImpl) processEngine
+                    .getProcessEngineConfiguration())
+                    .getCommandExecutorTxRequired()
+                    .execute(new UserTaskCompletionCommand(
+                            tenantId,
+                            aggregateId,
+                            taskId,
+                            null,
+                            task -> {
+                                LoggingContext.setLoggingContext(
+                                        Camunda7AdapterConfiguration.ADAPTER_ID,
+                                        tenantId,
+                                        parent.getWorkflowModuleId(),
+                                        aggregateId,
+                                        bpmnProcessId,
+                                        taskId,
+                                        task.getProcessInstanceId(),
+                                        task.getProcessDefinitionId() + "#" + task.getTaskDefinitionKey(),
+                                        task.getExecutionId());
+                                wakeupJobExecutorOnActivity();
+                            }));
 
             return attachedAggregate;
 
@@ -420,6 +640,74 @@ public class Camunda7ProcessService<DE>
         
     }
 
+    /**
+     * Completes all given user tasks within one transaction. Aggregates are saved at once,
+     * tasks and their process instances are loaded by one query each per chunk of 500
+     * tasks and the job-executor is woken up only once. If one of the tasks does not
+     * belong to the given aggregate then no task is completed.
+     *
+     * @param completions The user tasks and their aggregates
+     * @return The attached aggregates in the order given
+     */
+    public List<DE> completeUserTasks(
+            final List<BulkUserTaskCompletion<DE>> completions) {
+
+        if (completions.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+
+            final var attachedAggregates = new ArrayList<DE>(completions.size());
+            workflowAggregateRepository
+                    .saveAll(completions
+                            .stream()
+                            .map(BulkUserTaskCompletion::getWorkflowAggregate)
+                            .toList())
+                    .forEach(attachedAggregates::add);
+
+            final var aggregateIds = attachedAggregates
+                    .stream()
+                    .map(attachedAggregate -> getWorkflowAggregateId
+                            .apply(attachedAggregate)
+                            .toString())
+                    .toList();
+            final var taskIds = completions
+                    .stream()
+                    .map(BulkUserTaskCompletion::getTaskId)
+                    .toList();
+
+            final var tenantId = camunda7Properties.getTenantId(parent.getWorkflowModuleId());
+            final var bpmnProcessId = parent.getPrimaryBpmnProcessId();
+
+            ((ProcessEngineConfigurationImpl) processEngine
+                    .getProcessEngineConfiguration())
+                    .getCommandExecutorTxRequired()
+                    .execute(new BulkUserTaskCompletionCommand(
+                            tenantId,
+                            aggregateIds,
+                            taskIds,
+                            task -> LoggingContext.setLoggingContext(
+                                    Camunda7AdapterConfiguration.ADAPTER_ID,
+                                    tenantId,
+                                    parent.getWorkflowModuleId(),
+                                    task.getProcessInstance().getBusinessKey(),
+                                    bpmnProcessId,
+                                    task.getId(),
+                                    task.getProcessInstanceId(),
+                                    task.getProcessDefinitionId() + "#" + task.getTaskDefinitionKey(),
+                                    task.getExecutionId())));
+
+            wakeupJobExecutorOnActivity();
+
+            return attachedAggregates;
+
+        } finally {
+            LoggingContext.clearContext();
+        }
+
+    }
+
     @Override
     public DE completeTask(
             final DE workflowAggregate,
@@ -453,41 +741,30 @@ public class Camunda7ProcessService<DE>
             final var aggregateId = getWorkflowAggregateId.apply(workflowAggregate).toString();
 
             final var tenantId = camunda7Properties.getTenantId(parent.getWorkflowModuleId());
-            final var task = (tenantId == null
-                    ? processEngine
-                    .getTaskService()
-                    .createTaskQuery()
-                    : processEngine
-                    .getTaskService()
-                    .createTaskQuery()
-                    .tenantIdIn(tenantId))
-                    .processInstanceBusinessKey(aggregateId)
-                    .taskId(taskId)
-                    .singleResult();
-
-            if (task == null) {
-                throw new NullValueException("Task '"
-                        + taskId
-                        + "' not found!");
-            }
-
             final var bpmnProcessId = parent.getPrimaryBpmnProcessId();
-            LoggingContext.setLoggingContext(
-                    Camunda7AdapterConfiguration.ADAPTER_ID,
-                    tenantId,
-                    parent.getWorkflowModuleId(),
-                    aggregateId,
-                    bpmnProcessId,
-                    taskId,
-                    task.getProcessInstanceId(),
-                    task.getTaskDefinitionKey(),
-                    task.getExecutionId());
-
-            wakeupJobExecutorOnActivity();
 
-            processEngine
-                    .getTaskService()
-                    .handleBpmnError(taskId, errorCode);
+            // validate and complete within one command to load the task only once
+            ((ProcessEngineConfigurationImpl) processEngine
+                    .getProcessEngineConfiguration())
+                    .getCommandExecutorTxRequired()
+                    .execute(new UserTaskCompletionCommand(
+                            tenantId,
+                            aggregateId,
+                            taskId,
+                            errorCode,
+                            task -> {
+                                LoggingContext.setLoggingContext(
+                                        Camunda7AdapterConfiguration.ADAPTER_ID,
+                                        tenantId,
+                                        parent.getWorkflowModuleId(),
+                                        aggregateId,
+                                        bpmnProcessId,
+                                        taskId,
+                                        task.getProcessInstanceId(),
+                                        task.getTaskDefinitionKey(),
+                                        task.getExecutionId());
+                                wakeupJobExecutorOnActivity();
+                            }));
 
             return attachedAggregate;
 
@@ -1,29 +1,173 @@
 package io.vanillabp.camunda7.service;
 
+import io.vanillabp.camunda7.jobexecutor.ClusterWakeupChannel;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/*
+ * Wakes up the job-executor after the transaction publishing a
+ * WakupJobExecutorNotification was committed. Notifications of the same
+ * transaction are merged into one wakeup and wakeups of different transactions
+ * are rate-limited by a minimum interval. Wakeups not executed immediately due
+ * to the rate-limit are replaced by one trailing wakeup.
+ */
 public class WakupJobExecutorService {
     
     private static final Logger logger = LoggerFactory.getLogger(WakupJobExecutorService.class);
     
     private final ProcessEngine processEngine;
     
+    private final ClusterWakeupChannel clusterWakeupChannel;
+    
+    private final TaskScheduler taskScheduler;
+    
+    private final long minWakeupIntervalMillis;
+    
+    private final AtomicLong lastWakeup = new AtomicLong(0);
+    
+    private final AtomicBoolean trailingWakeupScheduled = new AtomicBoolean(false);
+    
+    private final LongAdder suppressedWakeups = new LongAdder();
+    
     public WakupJobExecutorService(
             final ProcessEngine processEngine) {
         
+        this(processEngine, null, null, Duration.ZERO);
+        
+    }
+    
+    public WakupJobExecutorService(
+            final ProcessEngine processEngine,
+            final ClusterWakeupChannel clusterWakeupChannel,
+            final TaskScheduler taskScheduler,
+            final Duration minWakeupInterval) {
+        
         this.processEngine = processEngine;
+        this.clusterWakeupChannel = clusterWakeupChannel;
+        this.taskScheduler = taskScheduler;
+        this.minWakeupIntervalMillis = taskScheduler == null ? 0 : minWakeupInterval.toMillis();
+        
+        if (clusterWakeupChannel != null) {
+            clusterWakeupChannel.subscribe(this::wakeupLocalJobExecutor);
+        }
+        
+    }
+    
+    /**
+     * @return The number of wakeups merged into other wakeups since startup
+     */
+    public long getSuppressedWakeups() {
+        
+        return suppressedWakeups.sum();
         
     }
     
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @EventListener
     public void wakeupJobExecutor(
             final WakupJobExecutorNotification notification) {
         
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            wakeupJobExecutorAfterCommit(notification);
+            return;
+        }
+        
+        // synchronizations are suspended by nested transactions (e.g. REQUIRES_NEW),
+        // so each transaction gets its own wakeup
+        final var wakeupPending = TransactionSynchronizationManager
+                .getSynchronizations()
+                .stream()
+                .anyMatch(synchronization -> (synchronization instanceof WakeupAfterCommit wakeup)
+                        && (wakeup.getService() == this));
+        if (wakeupPending) {
+            suppressedWakeups.increment();
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new WakeupAfterCommit(notification));
+        
+    }
+    
+    private class WakeupAfterCommit implements TransactionSynchronization {
+        
+        private final WakupJobExecutorNotification notification;
+        
+        WakeupAfterCommit(
+                final WakupJobExecutorNotification notification) {
+            
+            this.notification = notification;
+            
+        }
+        
+        WakupJobExecutorService getService() {
+            
+            return WakupJobExecutorService.this;
+            
+        }
+        
+        @Override
+        public void afterCommit() {
+            
+            wakeupJobExecutorAfterCommit(notification);
+            
+        }
+        
+    }
+    
+    private void wakeupJobExecutorAfterCommit(
+            final WakupJobExecutorNotification notification) {
+        
+        wakeupLocalJobExecutor(notification);
+        if (clusterWakeupChannel != null) {
+            clusterWakeupChannel.publish(notification);
+        }
+        
+    }
+    
+    private void wakeupLocalJobExecutor(
+            final WakupJobExecutorNotification notification) {
+        
+        if (taskScheduler == null) {
+            // not rate-limited
+            jobWasAdded();
+            return;
+        }
+        
+        final var now = System.currentTimeMillis();
+        final var previousWakeup = lastWakeup.get();
+        final var nextWakeupAllowed = previousWakeup + minWakeupIntervalMillis;
+        if ((now >= nextWakeupAllowed)
+                && lastWakeup.compareAndSet(previousWakeup, now)) {
+            jobWasAdded();
+            return;
+        }
+        
+        suppressedWakeups.increment();
+        if (!trailingWakeupScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        taskScheduler.schedule(
+                () -> {
+                    trailingWakeupScheduled.set(false);
+                    lastWakeup.set(System.currentTimeMillis());
+                    jobWasAdded();
+                },
+                Instant.ofEpochMilli(Math.max(now, nextWakeupAllowed)));
+        
+    }
+    
+    private void jobWasAdded() {
+        
         logger.debug("Wake up job-executor");
         final var jobExecutor = ((ProcessEngineConfigurationImpl) processEngine
                 .getProcessEngineConfiguration())
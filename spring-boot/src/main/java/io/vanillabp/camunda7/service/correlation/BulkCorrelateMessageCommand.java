@@ -0,0 +1,272 @@
+package io.vanillabp.camunda7.service.correlation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import org.camunda.bpm.engine.impl.MessageCorrelationBuilderImpl;
+import org.camunda.bpm.engine.impl.cmd.AbstractCorrelateMessageCmd;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.EventSubscriptionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.runtime.CorrelationHandlerResult;
+import org.camunda.bpm.engine.runtime.Execution;
+
+/*
+ * Correlates a message to many workflows identified by their business keys. Waiting
+ * executions are determined set-based: one query for the process instances, one for
+ * their executions subscribed to the message and one for the correlation-id variables.
+ * Like CorrelateMessageCommand an item is only correlated if there is exactly one
+ * matching active execution. Items having a business key already correlated by this
+ * command are correlated one by one since the process instance may have changed.
+ */
+public class BulkCorrelateMessageCommand extends AbstractCorrelateMessageCmd
+        implements Command<List<Boolean>> {
+
+    public record Item(
+            String businessKey,
+            String correlationId,
+            boolean startMessage) {
+    }
+
+    private final String tenantId;
+
+    private final String correlationIdLocalVariableName;
+
+    private final List<Item> items;
+
+    /**
+     * @param builder The builder of the message (message-name and payload)
+     * @param tenantId The tenant or null
+     * @param correlationIdLocalVariableName The name of the local variable holding the
+     *                                       correlation-id of items having one
+     * @param items The items to be correlated
+     */
+    public BulkCorrelateMessageCommand(
+            final MessageCorrelationBuilderImpl builder,
+            final String tenantId,
+            final String correlationIdLocalVariableName,
+            final List<Item> items) {
+
+        super(builder);
+        this.tenantId = tenantId;
+        this.correlationIdLocalVariableName = correlationIdLocalVariableName;
+        this.items = items;
+
+    }
+
+    /**
+     * @return Whether the message was correlated for each item in the order given
+     */
+    @Override
+    public List<Boolean> execute(
+            final CommandContext commandContext) {
+
+        final var businessKeys = items
+                .stream()
+                .filter(item -> !item.startMessage())
+                .map(Item::businessKey)
+                .distinct()
+                .toList();
+
+        final var waitingExecutions = commandContext
+                .runWithoutAuthorization(() -> findWaitingExecutions(commandContext, businessKeys));
+
+        final var result = new ArrayList<Boolean>(items.size());
+        final var handledBusinessKeys = new HashSet<String>();
+        for (final var item : items) {
+
+            if (item.startMessage()) {
+                newMessageCorrelation(commandContext, item).correlateStartMessage();
+                result.add(Boolean.TRUE);
+                continue;
+            }
+
+            if (!handledBusinessKeys.add(item.businessKey())) {
+                final var correlation = newMessageCorrelation(commandContext, item);
+                correlation.executionsOnly();
+                result.add(new CorrelateMessageCommand(correlation).execute(commandContext) != null);
+                continue;
+            }
+
+            final var executions = waitingExecutions
+                    .getOrDefault(item.businessKey(), List.of())
+                    .stream()
+                    .filter(waiting -> (item.correlationId() == null)
+                            || item.correlationId().equals(waiting.correlationId()))
+                    .toList();
+            if (executions.size() != 1) {
+                result.add(Boolean.FALSE);
+                continue;
+            }
+
+            final var correlationResult = CorrelationHandlerResult
+                    .matchedExecution(executions.get(0).execution());
+            checkAuthorization(correlationResult);
+            createMessageCorrelationResult(commandContext, correlationResult);
+            result.add(Boolean.TRUE);
+
+        }
+
+        return result;
+
+    }
+
+    private MessageCorrelationBuilderImpl newMessageCorrelation(
+            final CommandContext commandContext,
+            final Item item) {
+
+        final var correlation = new MessageCorrelationBuilderImpl(commandContext, messageName);
+        if (tenantId != null) {
+            correlation.tenantId(tenantId);
+        }
+        correlation.processInstanceBusinessKey(item.businessKey());
+        if (item.correlationId() != null) {
+            correlation.localVariableEquals(
+                    correlationIdLocalVariableName,
+                    item.correlationId());
+        }
+        return correlation;
+
+    }
+
+    private record WaitingExecution(
+            ExecutionEntity execution,
+            String correlationId) {
+    }
+
+    /*
+     * Camunda's query API does not support "business key in (...)", so native
+     * queries are used.
+     */
+    private Map<String, List<WaitingExecution>> findWaitingExecutions(
+            final CommandContext commandContext,
+            final List<String> businessKeys) {
+
+        final var result = new HashMap<String, List<WaitingExecution>>();
+        if (businessKeys.isEmpty()) {
+            return result;
+        }
+
+        final var processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+        final var runtimeService = processEngineConfiguration.getRuntimeService();
+        final var managementService = processEngineConfiguration.getManagementService();
+        final var executionTable = managementService.getTableName(ExecutionEntity.class);
+        final var eventSubscriptionTable = managementService.getTableName(EventSubscriptionEntity.class);
+
+        final var subscriptionCondition = " AND EXISTS (SELECT 1 FROM "
+                + eventSubscriptionTable
+                + " S WHERE S.EXECUTION_ID_ = E.ID_"
+                + " AND S.EVENT_TYPE_ = 'message'"
+                + " AND S.EVENT_NAME_ = #{messageName})";
+
+        final var processInstancesSql = new StringBuilder()
+                .append("SELECT P.* FROM ")
+                .append(executionTable)
+                .append(" P WHERE P.ID_ = P.PROC_INST_ID_");
+        if (tenantId != null) {
+            processInstancesSql.append(" AND P.TENANT_ID_ = #{tenantId}");
+        }
+        appendInList(processInstancesSql, " AND P.BUSINESS_KEY_", "businessKey", businessKeys.size());
+        processInstancesSql
+                .append(" AND EXISTS (SELECT 1 FROM ")
+                .append(executionTable)
+                .append(" E WHERE E.PROC_INST_ID_ = P.ID_")
+                .append(subscriptionCondition)
+                .append(')');
+
+        final var processInstancesQuery = runtimeService
+                .createNativeProcessInstanceQuery()
+                .sql(processInstancesSql.toString())
+                .parameter("messageName", messageName);
+        if (tenantId != null) {
+            processInstancesQuery.parameter("tenantId", tenantId);
+        }
+        for (int i = 0; i < businessKeys.size(); ++i) {
+            processInstancesQuery.parameter("businessKey" + i, businessKeys.get(i));
+        }
+        final var businessKeysByProcessInstanceId = new HashMap<String, String>();
+        processInstancesQuery
+                .list()
+                .forEach(processInstance -> businessKeysByProcessInstanceId.put(
+                        processInstance.getId(),
+                        processInstance.getBusinessKey()));
+        if (businessKeysByProcessInstanceId.isEmpty()) {
+            return result;
+        }
+
+        final var processInstanceIds = List.copyOf(businessKeysByProcessInstanceId.keySet());
+        final var executionsSql = new StringBuilder()
+                .append("SELECT E.* FROM ")
+                .append(executionTable)
+                .append(" E WHERE E.SUSPENSION_STATE_ = 1");
+        appendInList(executionsSql, " AND E.PROC_INST_ID_", "processInstanceId", processInstanceIds.size());
+        executionsSql.append(subscriptionCondition);
+
+        final var executionsQuery = runtimeService
+                .createNativeExecutionQuery()
+                .sql(executionsSql.toString())
+                .parameter("messageName", messageName);
+        for (int i = 0; i < processInstanceIds.size(); ++i) {
+            executionsQuery.parameter("processInstanceId" + i, processInstanceIds.get(i));
+        }
+        final List<Execution> executions = executionsQuery.list();
+        if (executions.isEmpty()) {
+            return result;
+        }
+
+        final var correlationIds = new HashMap<String, String>();
+        final var needsCorrelationIds = items
+                .stream()
+                .anyMatch(item -> !item.startMessage() && (item.correlationId() != null));
+        if (needsCorrelationIds) {
+            runtimeService
+                    .createVariableInstanceQuery()
+                    .variableName(correlationIdLocalVariableName)
+                    .executionIdIn(executions
+                            .stream()
+                            .map(Execution::getId)
+                            .toArray(String[]::new))
+                    .disableBinaryFetching()
+                    .disableCustomObjectDeserialization()
+                    .list()
+                    .stream()
+                    .filter(variable -> variable.getValue() instanceof String)
+                    .forEach(variable -> correlationIds.put(
+                            variable.getExecutionId(),
+                            (String) variable.getValue()));
+        }
+
+        executions.forEach(execution -> result
+                .computeIfAbsent(
+                        businessKeysByProcessInstanceId.get(execution.getProcessInstanceId()),
+                        businessKey -> new LinkedList<>())
+                .add(new WaitingExecution(
+                        (ExecutionEntity) execution,
+                        correlationIds.get(execution.getId()))));
+
+        return result;
+
+    }
+
+    private static void appendInList(
+            final StringBuilder sql,
+            final String column,
+            final String parameterPrefix,
+            final int size) {
+
+        sql.append(column).append(" IN (");
+        for (int i = 0; i < size; ++i) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("#{").append(parameterPrefix).append(i).append('}');
+        }
+        sql.append(')');
+
+    }
+
+}
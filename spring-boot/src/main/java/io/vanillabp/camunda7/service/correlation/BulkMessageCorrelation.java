@@ -0,0 +1,39 @@
+package io.vanillabp.camunda7.service.correlation;
+
+/**
+ * One item of a bulk message correlation: the workflow aggregate and
+ * an optional correlation-id.
+ *
+ * @see io.vanillabp.camunda7.service.Camunda7ProcessService#correlateMessages(String, java.util.List)
+ */
+public class BulkMessageCorrelation<DE> {
+
+    private final DE workflowAggregate;
+
+    private final String correlationId;
+
+    public BulkMessageCorrelation(
+            final DE workflowAggregate) {
+
+        this(workflowAggregate, null);
+
+    }
+
+    public BulkMessageCorrelation(
+            final DE workflowAggregate,
+            final String correlationId) {
+
+        this.workflowAggregate = workflowAggregate;
+        this.correlationId = correlationId;
+
+    }
+
+    public DE getWorkflowAggregate() {
+        return workflowAggregate;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+}
@@ -0,0 +1,65 @@
+package io.vanillabp.camunda7.service.correlation;
+
+/**
+ * The result of one item of a bulk message correlation.
+ *
+ * @see io.vanillabp.camunda7.service.Camunda7ProcessService#correlateMessages(String, java.util.List)
+ */
+public class BulkMessageCorrelationResult<DE> {
+
+    private final DE workflowAggregate;
+
+    private final String correlationId;
+
+    private final boolean correlated;
+
+    private final RuntimeException exception;
+
+    public BulkMessageCorrelationResult(
+            final DE workflowAggregate,
+            final String correlationId,
+            final boolean correlated) {
+
+        this(workflowAggregate, correlationId, correlated, null);
+
+    }
+
+    public BulkMessageCorrelationResult(
+            final DE workflowAggregate,
+            final String correlationId,
+            final boolean correlated,
+            final RuntimeException exception) {
+
+        this.workflowAggregate = workflowAggregate;
+        this.correlationId = correlationId;
+        this.correlated = correlated;
+        this.exception = exception;
+
+    }
+
+    /**
+     * @return The attached workflow aggregate
+     */
+    public DE getWorkflowAggregate() {
+        return workflowAggregate;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    /**
+     * @return Whether the message was correlated to a workflow
+     */
+    public boolean isCorrelated() {
+        return correlated;
+    }
+
+    /**
+     * @return The exception thrown on correlating this item or null
+     */
+    public RuntimeException getException() {
+        return exception;
+    }
+
+}
@@ -0,0 +1,55 @@
+package io.vanillabp.camunda7.service.correlation;
+
+import java.util.List;
+import org.camunda.bpm.engine.impl.MessageCorrelationBuilderImpl;
+import org.camunda.bpm.engine.impl.cmd.AbstractCorrelateMessageCmd;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.runtime.CorrelationHandlerResult;
+import org.camunda.bpm.engine.impl.runtime.CorrelationSet;
+import org.camunda.bpm.engine.impl.runtime.MessageCorrelationResultImpl;
+
+/*
+ * Correlates a message to exactly one waiting and active execution. In contrast to
+ * Camunda's MessageCorrelationBuilder#correlateWithResult this command does not fail
+ * if there is no or more than one matching execution but returns null instead.
+ * This avoids a preceding query to test whether the message can be correlated.
+ */
+public class CorrelateMessageCommand extends AbstractCorrelateMessageCmd
+        implements Command<MessageCorrelationResultImpl> {
+
+    public CorrelateMessageCommand(
+            final MessageCorrelationBuilderImpl builder) {
+
+        super(builder);
+
+    }
+
+    @Override
+    public MessageCorrelationResultImpl execute(
+            final CommandContext commandContext) {
+
+        final var correlationHandler = commandContext
+                .getProcessEngineConfiguration()
+                .getCorrelationHandler();
+        final var correlationSet = new CorrelationSet(builder);
+
+        final List<CorrelationHandlerResult> correlationResults = commandContext
+                .runWithoutAuthorization(() -> correlationHandler
+                        .correlateMessages(commandContext, messageName, correlationSet)
+                        .stream()
+                        .filter(result -> result.getExecutionEntity() != null)
+                        .filter(result -> !result.getExecutionEntity().isSuspended())
+                        .toList());
+        if (correlationResults.size() != 1) {
+            return null;
+        }
+
+        final var correlationResult = correlationResults.get(0);
+        checkAuthorization(correlationResult);
+
+        return createMessageCorrelationResult(commandContext, correlationResult);
+
+    }
+
+}
@@ -6,7 +6,11 @@ import org.camunda.bpm.engine.impl.persistence.entity.MessageEntity;
 
 public class StartProcessCommand implements Command<String> {
 
-    static final String TYPE = "VBP_StartProcess";
+    public static final String TYPE = "VBP_StartProcess";
+
+    private final String tenantId;
+
+    private final String bpmnProcessId;
 
     private final StartProcessJobHandlerConfiguration configuration;
 
@@ -15,6 +19,8 @@ public class StartProcessCommand implements Command<String> {
             final String bpmnProcessId,
             final String businessKey) {
 
+        this.tenantId = tenantId;
+        this.bpmnProcessId = bpmnProcessId;
         this.configuration = new StartProcessJobHandlerConfiguration(
                 tenantId,
                 bpmnProcessId,
@@ -31,6 +37,9 @@ public class StartProcessCommand implements Command<String> {
         entity.init(commandContext);
         entity.setJobHandlerType(TYPE);
         entity.setJobHandlerConfiguration(configuration);
+        // used to assign the job to job-executor lanes
+        entity.setProcessDefinitionKey(bpmnProcessId);
+        entity.setTenantId(tenantId);
 
         commandContext.getJobManager().send(entity);
 
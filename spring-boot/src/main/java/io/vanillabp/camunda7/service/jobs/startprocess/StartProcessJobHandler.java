@@ -1,15 +1,21 @@
 package io.vanillabp.camunda7.service.jobs.startprocess;
 
+import io.vanillabp.camunda7.deployment.LatestProcessDefinitionCache;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.jobexecutor.JobHandler;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
 
-import java.util.regex.Pattern;
-
 public class StartProcessJobHandler implements JobHandler<StartProcessJobHandlerConfiguration> {
 
-    private static final Pattern SPLITTER = Pattern.compile("([^\n]+)\n([^\n]+)\n(.*)");
+    private final LatestProcessDefinitionCache latestProcessDefinitionCache;
+
+    public StartProcessJobHandler(
+            final LatestProcessDefinitionCache latestProcessDefinitionCache) {
+
+        this.latestProcessDefinitionCache = latestProcessDefinitionCache;
+
+    }
 
     @Override
     public String getType() {
@@ -23,15 +29,32 @@ public class StartProcessJobHandler implements JobHandler<StartProcessJobHandler
             final CommandContext commandContext,
             final String tenantId) {
 
-        final var command = commandContext
+        startProcess(
+                commandContext,
+                latestProcessDefinitionCache,
+                configuration.getTenantId(),
+                configuration.getBpmnProcessId(),
+                configuration.getBusinessKey());
+
+    }
+
+    static void startProcess(
+            final CommandContext commandContext,
+            final LatestProcessDefinitionCache latestProcessDefinitionCache,
+            final String tenantId,
+            final String bpmnProcessId,
+            final String businessKey) {
+
+        final var processDefinitionId = latestProcessDefinitionCache.getLatestProcessDefinitionId(
+                commandContext,
+                tenantId,
+                bpmnProcessId);
+
+        commandContext
                 .getProcessEngineConfiguration()
-                .getProcessEngine()
                 .getRuntimeService()
-                .createProcessInstanceByKey(configuration.getBpmnProcessId())
-                .businessKey(configuration.getBusinessKey());
-        (configuration.getTenantId() == null
-                ? command.processDefinitionWithoutTenantId()
-                : command.processDefinitionTenantId(configuration.getTenantId()))
+                .createProcessInstanceById(processDefinitionId)
+                .businessKey(businessKey)
                 .execute();
 
     }
@@ -40,19 +63,7 @@ public class StartProcessJobHandler implements JobHandler<StartProcessJobHandler
     public StartProcessJobHandlerConfiguration newConfiguration(
             final String canonicalString) {
 
-        if (canonicalString == null) {
-            return null;
-        }
-
-        final var splitter = SPLITTER.matcher(canonicalString);
-        if (!splitter.matches()) {
-            return null;
-        }
-
-        return new StartProcessJobHandlerConfiguration(
-                splitter.group(1),
-                splitter.group(2),
-                splitter.group(3));
+        return StartProcessJobHandlerConfiguration.fromCanonicalString(canonicalString);
 
     }
 
@@ -1,9 +1,20 @@
 package io.vanillabp.camunda7.service.jobs.startprocess;
 
+import io.vanillabp.camunda7.utils.LengthPrefixedEncoding;
 import org.camunda.bpm.engine.impl.jobexecutor.JobHandlerConfiguration;
 
+/*
+ * Encoded as "#1:" followed by tenant-id, BPMN process id and business key,
+ * each prefixed by its length and ':' (length -1 for null). Configurations of
+ * jobs created by previous versions ("tenant\nbpmnProcessId\nbusinessKey")
+ * are still decoded.
+ */
 public class StartProcessJobHandlerConfiguration implements JobHandlerConfiguration {
 
+    static final String VERSION_PREFIX = "#1:";
+
+    private static final String LEGACY_NULL = "null";
+
     private final String businessKey;
 
     private final String tenantId;
@@ -24,7 +35,57 @@ public class StartProcessJobHandlerConfiguration implements JobHandlerConfigurat
     @Override
     public String toCanonicalString() {
 
-        return tenantId + "\n" + bpmnProcessId + "\n" + businessKey;
+        final var result = new StringBuilder();
+        result.append(VERSION_PREFIX);
+        LengthPrefixedEncoding.append(result, tenantId);
+        LengthPrefixedEncoding.append(result, bpmnProcessId);
+        LengthPrefixedEncoding.append(result, businessKey);
+        return result.toString();
+
+    }
+
+    /**
+     * @return The configuration or null if the given string is not a valid encoding
+     */
+    public static StartProcessJobHandlerConfiguration fromCanonicalString(
+            final String canonicalString) {
+
+        if (canonicalString == null) {
+            return null;
+        }
+        if (!canonicalString.startsWith(VERSION_PREFIX)) {
+            return decodeLegacy(canonicalString);
+        }
+
+        final var fields = LengthPrefixedEncoding.decode(canonicalString, VERSION_PREFIX.length(), 3);
+        if (fields == null) {
+            return null;
+        }
+        return new StartProcessJobHandlerConfiguration(
+                fields.get(0),
+                fields.get(1),
+                fields.get(2));
+
+    }
+
+    private static StartProcessJobHandlerConfiguration decodeLegacy(
+            final String canonicalString) {
+
+        final var firstSeparator = canonicalString.indexOf('\n');
+        if (firstSeparator < 1) {
+            return null;
+        }
+        final var secondSeparator = canonicalString.indexOf('\n', firstSeparator + 1);
+        if (secondSeparator < firstSeparator + 2) {
+            return null;
+        }
+
+        final var tenantId = canonicalString.substring(0, firstSeparator);
+        return new StartProcessJobHandlerConfiguration(
+                // previous versions wrote null tenant-ids as "null"
+                LEGACY_NULL.equals(tenantId) ? null : tenantId,
+                canonicalString.substring(firstSeparator + 1, secondSeparator),
+                canonicalString.substring(secondSeparator + 1));
 
     }
 
@@ -0,0 +1,93 @@
+package io.vanillabp.camunda7.service.jobs.startprocess;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.MessageEntity;
+
+/*
+ * Creates one start-processes job per chunk of business keys which saves
+ * the job-executor from acquiring, locking and deleting one job per process
+ * instance to be started.
+ */
+public class StartProcessesCommand implements Command<List<String>> {
+
+    private final String tenantId;
+
+    private final String bpmnProcessId;
+
+    private final Collection<String> businessKeys;
+
+    public StartProcessesCommand(
+            final String tenantId,
+            final String bpmnProcessId,
+            final Collection<String> businessKeys) {
+
+        this.tenantId = tenantId;
+        this.bpmnProcessId = bpmnProcessId;
+        this.businessKeys = businessKeys;
+
+    }
+
+    @Override
+    public List<String> execute(
+            final CommandContext commandContext) {
+
+        final var businessKeysList = List.copyOf(businessKeys);
+        final var result = new ArrayList<String>(
+                businessKeysList.size() / StartProcessesJobHandler.CHUNK_SIZE + 1);
+
+        for (var i = 0; i < businessKeysList.size(); i += StartProcessesJobHandler.CHUNK_SIZE) {
+
+            final var chunk = businessKeysList.subList(
+                    i,
+                    Math.min(i + StartProcessesJobHandler.CHUNK_SIZE, businessKeysList.size()));
+
+            result.add(sendJob(commandContext, tenantId, bpmnProcessId, chunk));
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * Creates one start-processes job for the given business keys.
+     *
+     * @return The job's id
+     */
+    static String sendJob(
+            final CommandContext commandContext,
+            final String tenantId,
+            final String bpmnProcessId,
+            final List<String> businessKeys) {
+
+        final var businessKeysByteArray = StartProcessesJobHandler.newBusinessKeysByteArray(businessKeys);
+        commandContext
+                .getByteArrayManager()
+                .insertByteArray(businessKeysByteArray);
+
+        final var entity = new MessageEntity();
+
+        entity.init(commandContext);
+        entity.setJobHandlerType(StartProcessesJobHandler.TYPE);
+        entity.setJobHandlerConfiguration(
+                new StartProcessesJobHandlerConfiguration(
+                        tenantId,
+                        bpmnProcessId,
+                        businessKeysByteArray.getId()));
+        // used to assign the job to job-executor lanes
+        entity.setProcessDefinitionKey(bpmnProcessId);
+        entity.setTenantId(tenantId);
+
+        commandContext
+                .getJobManager()
+                .send(entity);
+
+        return entity.getId();
+
+    }
+
+}
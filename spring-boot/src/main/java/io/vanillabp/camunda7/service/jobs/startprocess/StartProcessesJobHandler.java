@@ -0,0 +1,147 @@
+package io.vanillabp.camunda7.service.jobs.startprocess;
+
+import io.vanillabp.camunda7.deployment.LatestProcessDefinitionCache;
+import io.vanillabp.camunda7.utils.LengthPrefixedEncoding;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.jobexecutor.JobHandler;
+import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+import org.camunda.bpm.engine.repository.ResourceTypes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+ * Starts a process instance for each business key of a chunk. The business keys
+ * are processed in checkpoints: each execution of the job starts the process
+ * instances of one checkpoint and creates a job for the remaining business keys.
+ * Both are committed by the job's transaction, so a retry neither starts a process
+ * instance twice nor needs to query which ones were started already.
+ * If a checkpoint failed then its retry does not start the process instances
+ * but creates one start-process job per business key of the checkpoint. This
+ * isolates the business key failing in a job (and finally an incident) of its own
+ * instead of blocking the remaining business keys.
+ */
+public class StartProcessesJobHandler implements JobHandler<StartProcessesJobHandlerConfiguration> {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartProcessesJobHandler.class);
+
+    public static final String TYPE = "VBP_StartProcesses";
+
+    /** The max. number of business keys per job */
+    public static final int CHUNK_SIZE = 500;
+
+    private static final int CHECKPOINT_SIZE = 50;
+
+    private static final String BYTE_ARRAY_NAME = "vbp-start-processes";
+
+    private final LatestProcessDefinitionCache latestProcessDefinitionCache;
+
+    public StartProcessesJobHandler(
+            final LatestProcessDefinitionCache latestProcessDefinitionCache) {
+
+        this.latestProcessDefinitionCache = latestProcessDefinitionCache;
+
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    static ByteArrayEntity newBusinessKeysByteArray(
+            final Collection<String> businessKeys) {
+
+        final var encoded = new StringBuilder();
+        businessKeys.forEach(businessKey -> LengthPrefixedEncoding.append(encoded, businessKey));
+        return new ByteArrayEntity(
+                BYTE_ARRAY_NAME,
+                encoded.toString().getBytes(StandardCharsets.UTF_8),
+                ResourceTypes.RUNTIME);
+
+    }
+
+    @Override
+    public void execute(
+            final StartProcessesJobHandlerConfiguration configuration,
+            final ExecutionEntity execution,
+            final CommandContext commandContext,
+            final String tenantId) {
+
+        final var byteArray = commandContext
+                .getDbEntityManager()
+                .selectById(ByteArrayEntity.class, configuration.getBusinessKeysByteArrayId());
+        if (byteArray == null) {
+            logger.warn("Business keys of start-processes job for '{}' (tenant: {}) not found",
+                    configuration.getBpmnProcessId(),
+                    configuration.getTenantId());
+            return;
+        }
+        final var businessKeys = LengthPrefixedEncoding.decode(
+                new String(byteArray.getBytes(), StandardCharsets.UTF_8),
+                0,
+                -1);
+        if (businessKeys == null) {
+            logger.warn("Invalid business keys of start-processes job for '{}' (tenant: {})",
+                    configuration.getBpmnProcessId(),
+                    configuration.getTenantId());
+            return;
+        }
+
+        final var checkpoint = businessKeys.subList(0, Math.min(CHECKPOINT_SIZE, businessKeys.size()));
+        final var currentJob = commandContext.getCurrentJob();
+        if ((currentJob != null)
+                && (currentJob.getExceptionByteArrayId() != null)) {
+            logger.info("Start-processes job for '{}' (tenant: {}) failed before, "
+                    + "splitting {} business keys into jobs of their own",
+                    configuration.getBpmnProcessId(),
+                    configuration.getTenantId(),
+                    checkpoint.size());
+            checkpoint.forEach(businessKey -> new StartProcessCommand(
+                    configuration.getTenantId(),
+                    configuration.getBpmnProcessId(),
+                    businessKey)
+                    .execute(commandContext));
+        } else {
+            checkpoint.forEach(businessKey -> StartProcessJobHandler.startProcess(
+                    commandContext,
+                    latestProcessDefinitionCache,
+                    configuration.getTenantId(),
+                    configuration.getBpmnProcessId(),
+                    businessKey));
+        }
+
+        if (businessKeys.size() > CHECKPOINT_SIZE) {
+            StartProcessesCommand.sendJob(
+                    commandContext,
+                    configuration.getTenantId(),
+                    configuration.getBpmnProcessId(),
+                    businessKeys.subList(CHECKPOINT_SIZE, businessKeys.size()));
+        }
+
+    }
+
+    @Override
+    public StartProcessesJobHandlerConfiguration newConfiguration(
+            final String canonicalString) {
+
+        return StartProcessesJobHandlerConfiguration.fromCanonicalString(canonicalString);
+
+    }
+
+    @Override
+    public void onDelete(
+            final StartProcessesJobHandlerConfiguration configuration,
+            final JobEntity jobEntity) {
+
+        Context
+                .getCommandContext()
+                .getByteArrayManager()
+                .deleteByteArrayById(configuration.getBusinessKeysByteArrayId());
+
+    }
+
+}
@@ -0,0 +1,78 @@
+package io.vanillabp.camunda7.service.jobs.startprocess;
+
+import io.vanillabp.camunda7.utils.LengthPrefixedEncoding;
+import org.camunda.bpm.engine.impl.jobexecutor.JobHandlerConfiguration;
+
+/*
+ * Since a chunk of business keys does not fit into the job's configuration
+ * column the business keys are stored in a byte array referenced by id.
+ */
+public class StartProcessesJobHandlerConfiguration implements JobHandlerConfiguration {
+
+    private final String tenantId;
+
+    private final String bpmnProcessId;
+
+    private final String businessKeysByteArrayId;
+
+    public StartProcessesJobHandlerConfiguration(
+            final String tenantId,
+            final String bpmnProcessId,
+            final String businessKeysByteArrayId) {
+
+        this.tenantId = tenantId;
+        this.bpmnProcessId = bpmnProcessId;
+        this.businessKeysByteArrayId = businessKeysByteArrayId;
+
+    }
+
+    @Override
+    public String toCanonicalString() {
+
+        final var result = new StringBuilder();
+        result.append(StartProcessJobHandlerConfiguration.VERSION_PREFIX);
+        LengthPrefixedEncoding.append(result, tenantId);
+        LengthPrefixedEncoding.append(result, bpmnProcessId);
+        LengthPrefixedEncoding.append(result, businessKeysByteArrayId);
+        return result.toString();
+
+    }
+
+    /**
+     * @return The configuration or null if the given string is not a valid encoding
+     */
+    public static StartProcessesJobHandlerConfiguration fromCanonicalString(
+            final String canonicalString) {
+
+        if ((canonicalString == null)
+                || !canonicalString.startsWith(StartProcessJobHandlerConfiguration.VERSION_PREFIX)) {
+            return null;
+        }
+
+        final var fields = LengthPrefixedEncoding.decode(
+                canonicalString,
+                StartProcessJobHandlerConfiguration.VERSION_PREFIX.length(),
+                3);
+        if (fields == null) {
+            return null;
+        }
+        return new StartProcessesJobHandlerConfiguration(
+                fields.get(0),
+                fields.get(1),
+                fields.get(2));
+
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public String getBpmnProcessId() {
+        return bpmnProcessId;
+    }
+
+    public String getBusinessKeysByteArrayId() {
+        return businessKeysByteArrayId;
+    }
+
+}
@@ -0,0 +1,32 @@
+package io.vanillabp.camunda7.service.usertask;
+
+/**
+ * One item of a bulk user task completion: the user task and the workflow
+ * aggregate it belongs to.
+ *
+ * @see io.vanillabp.camunda7.service.Camunda7ProcessService#completeUserTasks(java.util.List)
+ */
+public class BulkUserTaskCompletion<DE> {
+
+    private final DE workflowAggregate;
+
+    private final String taskId;
+
+    public BulkUserTaskCompletion(
+            final DE workflowAggregate,
+            final String taskId) {
+
+        this.workflowAggregate = workflowAggregate;
+        this.taskId = taskId;
+
+    }
+
+    public DE getWorkflowAggregate() {
+        return workflowAggregate;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+}
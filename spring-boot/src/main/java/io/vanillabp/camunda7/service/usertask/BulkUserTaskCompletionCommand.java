@@ -0,0 +1,95 @@
+package io.vanillabp.camunda7.service.usertask;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
+import org.camunda.bpm.engine.task.Task;
+
+/*
+ * Completes many user tasks within one command. Tasks and their process instances
+ * are loaded by one query each per chunk into the command's entity cache, so
+ * validating and completing each task by UserTaskCompletionCommand needs no further
+ * query. If one of the tasks does not belong to the given business key then the
+ * command fails and no task is completed.
+ */
+public class BulkUserTaskCompletionCommand implements Command<Void> {
+
+    private static final int QUERY_CHUNK_SIZE = 500;
+
+    private final String tenantId;
+
+    private final List<String> businessKeys;
+
+    private final List<String> taskIds;
+
+    private final Consumer<TaskEntity> beforeCompletion;
+
+    /**
+     * @param tenantId The tenant the tasks have to belong to or null if tenants are not used
+     * @param businessKeys The business keys of the tasks' process instances
+     * @param taskIds The tasks to be completed in the same order as the business keys
+     * @param beforeCompletion Callback for each validated task before its completion
+     */
+    public BulkUserTaskCompletionCommand(
+            final String tenantId,
+            final List<String> businessKeys,
+            final List<String> taskIds,
+            final Consumer<TaskEntity> beforeCompletion) {
+
+        this.tenantId = tenantId;
+        this.businessKeys = businessKeys;
+        this.taskIds = taskIds;
+        this.beforeCompletion = beforeCompletion;
+
+    }
+
+    @Override
+    public Void execute(
+            final CommandContext commandContext) {
+
+        final var processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+
+        for (int from = 0; from < taskIds.size(); from += QUERY_CHUNK_SIZE) {
+            final var chunk = taskIds
+                    .subList(from, Math.min(from + QUERY_CHUNK_SIZE, taskIds.size()))
+                    .toArray(String[]::new);
+            final var taskQuery = processEngineConfiguration
+                    .getTaskService()
+                    .createTaskQuery()
+                    .taskIdIn(chunk);
+            final var processInstanceIds = (tenantId == null
+                    ? taskQuery
+                    : taskQuery.tenantIdIn(tenantId))
+                    .list()
+                    .stream()
+                    .map(Task::getProcessInstanceId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            if (!processInstanceIds.isEmpty()) {
+                processEngineConfiguration
+                        .getRuntimeService()
+                        .createProcessInstanceQuery()
+                        .processInstanceIds(processInstanceIds)
+                        .list();
+            }
+        }
+
+        for (int i = 0; i < taskIds.size(); ++i) {
+            new UserTaskCompletionCommand(
+                    tenantId,
+                    businessKeys.get(i),
+                    taskIds.get(i),
+                    null,
+                    beforeCompletion)
+                    .execute(commandContext);
+        }
+
+        return null;
+
+    }
+
+}
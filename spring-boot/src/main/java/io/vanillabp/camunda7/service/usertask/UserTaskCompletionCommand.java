@@ -0,0 +1,81 @@
+package io.vanillabp.camunda7.service.usertask;
+
+import java.util.function.Consumer;
+import org.camunda.bpm.engine.exception.NullValueException;
+import org.camunda.bpm.engine.impl.cmd.CompleteTaskCmd;
+import org.camunda.bpm.engine.impl.cmd.HandleTaskBpmnErrorCmd;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
+
+/*
+ * Completes a user task (or cancels it by a BPMN error) after validating that the
+ * task belongs to the given workflow aggregate and tenant. The task is loaded only
+ * once since Camunda's nested commands find it in the command's entity cache. The
+ * same applies to the process instance, so bulk operations may load tasks and process
+ * instances by one query each before running this command for every task.
+ */
+public class UserTaskCompletionCommand implements Command<TaskEntity> {
+
+    private final String tenantId;
+
+    private final String businessKey;
+
+    private final String taskId;
+
+    private final String bpmnErrorCode;
+
+    private final Consumer<TaskEntity> beforeCompletion;
+
+    /**
+     * @param tenantId The tenant the task has to belong to or null if tenants are not used
+     * @param businessKey The business key of the task's process instance
+     * @param taskId The task to be completed
+     * @param bpmnErrorCode The BPMN error to be thrown or null to complete the task regularly
+     * @param beforeCompletion Callback for the validated task before completion
+     */
+    public UserTaskCompletionCommand(
+            final String tenantId,
+            final String businessKey,
+            final String taskId,
+            final String bpmnErrorCode,
+            final Consumer<TaskEntity> beforeCompletion) {
+
+        this.tenantId = tenantId;
+        this.businessKey = businessKey;
+        this.taskId = taskId;
+        this.bpmnErrorCode = bpmnErrorCode;
+        this.beforeCompletion = beforeCompletion;
+
+    }
+
+    @Override
+    public TaskEntity execute(
+            final CommandContext commandContext) {
+
+        final var task = commandContext
+                .getTaskManager()
+                .findTaskById(taskId);
+
+        if ((task == null)
+                || ((tenantId != null) && !tenantId.equals(task.getTenantId()))
+                || (task.getProcessInstance() == null)
+                || !businessKey.equals(task.getProcessInstance().getBusinessKey())) {
+            throw new NullValueException("Task '"
+                    + taskId
+                    + "' not found!");
+        }
+
+        beforeCompletion.accept(task);
+
+        if (bpmnErrorCode == null) {
+            new CompleteTaskCmd(taskId, null).execute(commandContext);
+        } else {
+            new HandleTaskBpmnErrorCmd(taskId, bpmnErrorCode).execute(commandContext);
+        }
+
+        return task;
+
+    }
+
+}
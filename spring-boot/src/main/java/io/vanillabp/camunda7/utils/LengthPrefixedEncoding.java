@@ -0,0 +1,79 @@
+package io.vanillabp.camunda7.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Encodes strings by prefixing each one by its length and ':' (-1 for null)
+ * which allows any character to be part of the strings encoded.
+ */
+public final class LengthPrefixedEncoding {
+
+    private LengthPrefixedEncoding() {
+        // utility class
+    }
+
+    public static void append(
+            final StringBuilder result,
+            final String value) {
+
+        if (value == null) {
+            result.append("-1:");
+        } else {
+            result.append(value.length()).append(':').append(value);
+        }
+
+    }
+
+    /**
+     * @param encoded The string to be decoded
+     * @param position The position to start decoding
+     * @param expectedFields The number of fields expected or -1 to decode until the end
+     * @return The fields decoded or null if the string is not a valid encoding
+     */
+    public static List<String> decode(
+            final String encoded,
+            final int position,
+            final int expectedFields) {
+
+        final var result = new ArrayList<String>(Math.max(expectedFields, 10));
+        var current = position;
+        while (current < encoded.length()) {
+
+            if (result.size() == expectedFields) {
+                return null;
+            }
+
+            final var separator = encoded.indexOf(':', current);
+            if (separator == -1) {
+                return null;
+            }
+            final int length;
+            try {
+                length = Integer.parseInt(encoded, current, separator, 10);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            current = separator + 1;
+            if (length == -1) {
+                result.add(null);
+                continue;
+            }
+            if ((length < 0)
+                    || (current + length > encoded.length())) {
+                return null;
+            }
+            result.add(encoded.substring(current, current + length));
+            current += length;
+
+        }
+        if ((expectedFields != -1)
+                && (result.size() != expectedFields)) {
+            return null;
+        }
+
+        return result;
+
+    }
+
+}
@@ -0,0 +1,42 @@
+package io.vanillabp.camunda7.utils;
+
+import java.io.IOException;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.session.Configuration;
+
+/*
+ * Adds MyBatis mappings of this adapter to Camunda's MyBatis configuration.
+ * Statements of those mappings may include fragments of Camunda's mappings.
+ */
+public final class MybatisMappings {
+
+    private MybatisMappings() {
+        // utility class
+    }
+
+    /**
+     * @param configuration Camunda's MyBatis configuration
+     * @param resource The class-path resource of the mapping
+     */
+    public static void add(
+            final Configuration configuration,
+            final String resource) {
+
+        // the SQL session factory might be shared by several process engines
+        if (configuration.isResourceLoaded(resource)) {
+            return;
+        }
+        try (var mapping = MybatisMappings.class.getClassLoader().getResourceAsStream(resource)) {
+            new XMLMapperBuilder(
+                    mapping,
+                    configuration,
+                    resource,
+                    configuration.getSqlFragments())
+                    .parse();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not load '" + resource + "'", e);
+        }
+
+    }
+
+}
@@ -31,6 +31,21 @@ public class Camunda7Connectable implements Connectable {
 
     }
 
+    Camunda7Connectable(
+            final String bpmnProcessId,
+            final String versionInfo,
+            final String elementId,
+            final String taskDefinition,
+            final Type type) {
+
+        this.bpmnProcessId = bpmnProcessId;
+        this.versionInfo = versionInfo;
+        this.elementId = elementId;
+        this.taskDefinition = taskDefinition;
+        this.type = type;
+
+    }
+
     public boolean applies(
             final String elementId,
             final String taskDefinition) {
@@ -117,7 +117,14 @@ public class Camunda7TaskHandler extends TaskHandlerBase implements JavaDelegate
             final var workflowAggregateId = processService
                     .getWorkflowAggregateIdFromBusinessKey(execution.getBusinessKey());
             
+            // reuse aggregate already loaded within the current command
+            final var workflowAggregateSession = WorkflowAggregateSession.current();
             final var workflowAggregateCache = new WorkflowAggregateCache();
+            if (workflowAggregateSession != null) {
+                workflowAggregateCache.workflowAggregate = workflowAggregateSession.getWorkflowAggregate(
+                        processService.getWorkflowAggregateClass(),
+                        workflowAggregateId);
+            }
             
             super.execute(
                     workflowAggregateCache,
@@ -155,6 +162,13 @@ public class Camunda7TaskHandler extends TaskHandlerBase implements JavaDelegate
                                 return workflowAggregateCache.workflowAggregate;
                             }, multiInstanceSupplier));
 
+            if (workflowAggregateSession != null) {
+                workflowAggregateSession.putWorkflowAggregate(
+                        processService.getWorkflowAggregateClass(),
+                        workflowAggregateId,
+                        workflowAggregateCache.workflowAggregate);
+            }
+
         } catch (TaskException e) {
 
             if (e.getErrorName() != null) {
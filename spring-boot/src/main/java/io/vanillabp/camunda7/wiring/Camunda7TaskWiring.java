@@ -122,6 +122,27 @@ public class Camunda7TaskWiring extends TaskWiringBase<Camunda7Connectable, Camu
         
     }
     
+    public void wire(
+            final String workflowModuleId,
+            final WiringManifest wiringManifest,
+            final boolean oldVersionBpmn) {
+
+        // process definitions may be wired concurrently
+        synchronized (this) {
+
+            final var processService = wireService(
+                    workflowModuleId,
+                    wiringManifest.getBpmnProcessId(),
+                    oldVersionBpmn ? null : wiringManifest.getMessageBasedStartEventsMessages(),
+                    oldVersionBpmn ? null : wiringManifest.getSignalBasedStartEventsSignals());
+            wiringManifest
+                    .getConnectables()
+                    .forEach(connectable -> wireTask(workflowModuleId, processService, connectable));
+
+        }
+
+    }
+
     public void validateWiring() {
         
         if (connectableServices
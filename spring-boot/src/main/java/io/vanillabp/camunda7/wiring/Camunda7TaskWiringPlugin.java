@@ -1,5 +1,7 @@
 package io.vanillabp.camunda7.wiring;
 
+import io.vanillabp.camunda7.deployment.Camunda7DeploymentAdapter;
+import io.vanillabp.camunda7.utils.MybatisMappings;
 import java.util.LinkedList;
 
 import org.camunda.bpm.engine.impl.cfg.AbstractProcessEnginePlugin;
@@ -35,6 +37,14 @@ public class Camunda7TaskWiringPlugin extends AbstractProcessEnginePlugin {
                 .getCustomPreBPMNParseListeners()
                 .add(taskWiringBpmnParseListener);
         
+        // share loaded workflow aggregates within one command
+        if (configuration.getCustomSessionFactories() == null) {
+            configuration.setCustomSessionFactories(new LinkedList<>());
+        }
+        configuration
+                .getCustomSessionFactories()
+                .add(new WorkflowAggregateSessionFactory());
+
         // needed to pass workflow module id to bpmn parse listener
         if (configuration.getCustomPreDeployers() == null) {
             configuration.setCustomPreDeployers(new LinkedList<>());
@@ -49,4 +59,14 @@ public class Camunda7TaskWiringPlugin extends AbstractProcessEnginePlugin {
 
     }
 
+    @Override
+    public void postInit(final ProcessEngineConfigurationImpl configuration) {
+
+        // statements used by the deployment adapter
+        MybatisMappings.add(
+                configuration.getSqlSessionFactory().getConfiguration(),
+                Camunda7DeploymentAdapter.PROCESS_DEFINITION_MAPPING);
+
+    }
+
 }
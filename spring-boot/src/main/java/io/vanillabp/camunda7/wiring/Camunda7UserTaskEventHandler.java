@@ -7,24 +7,56 @@ import org.camunda.bpm.model.bpmn.instance.UserTask;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Camunda7UserTaskEventHandler implements TaskListener {
 
     private static final Logger logger = LoggerFactory
             .getLogger(Camunda7UserTaskEventHandler.class);
     
-    private final Map<Camunda7Connectable, Camunda7UserTaskHandler> taskHandlers = new HashMap<>();
+    /*
+     * Handlers indexed by bpmn-process-id and element-id resp. form-key
+     * to avoid scanning all wired user tasks on each task event.
+     */
+    private final Map<String, Map<String, Map.Entry<Camunda7Connectable, Camunda7UserTaskHandler>>> taskHandlersByElementId = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, Map.Entry<Camunda7Connectable, Camunda7UserTaskHandler>>> taskHandlersByFormKey = new ConcurrentHashMap<>();
     
     public void addTaskHandler(
             final Camunda7Connectable connectable,
             final Camunda7UserTaskHandler taskHandler) {
         
-        taskHandlers.put(connectable, taskHandler);
+        final var handler = Map.entry(connectable, taskHandler);
+        if (connectable.getElementId() != null) {
+            taskHandlersByElementId
+                    .computeIfAbsent(connectable.getBpmnProcessId(), bpmnProcessId -> new ConcurrentHashMap<>())
+                    .put(connectable.getElementId(), handler);
+        }
+        if (connectable.getTaskDefinition() != null) {
+            taskHandlersByFormKey
+                    .computeIfAbsent(connectable.getBpmnProcessId(), bpmnProcessId -> new ConcurrentHashMap<>())
+                    .put(connectable.getTaskDefinition(), handler);
+        }
         
     }
 
+    private static Map.Entry<Camunda7Connectable, Camunda7UserTaskHandler> findTaskHandler(
+            final Map<String, Map<String, Map.Entry<Camunda7Connectable, Camunda7UserTaskHandler>>> taskHandlers,
+            final String bpmnProcessId,
+            final String key) {
+
+        if (key == null) {
+            return null;
+        }
+        final var byKey = taskHandlers.get(bpmnProcessId);
+        if (byKey == null) {
+            return null;
+        }
+        return byKey.get(key);
+
+    }
+
     @Override
     public void notify(
             final DelegateTask delegateTask) {
@@ -35,44 +67,50 @@ public class Camunda7UserTaskEventHandler implements TaskListener {
                 .getProcessDefinition()
                 .getKey();
         
-        final var connectableFound = new Camunda7Connectable[1];
-        taskHandlers
-                .entrySet()
-                .stream()
-                .filter(entry -> {
-                    final var connectable = entry.getKey();
-                    
-                    if (!connectable.getBpmnProcessId().equals(bpmnProcessId)) {
-                        return false;
-                    }
-                    
-                    final var element = execution.getBpmnModelElementInstance();
-                    if (element == null) {
-                        return false;
-                    }
-                    
-                    return connectable.applies(
-                            element.getId(),
-                            ((UserTask) element).getCamundaFormKey());
-                })
-                .peek(entry -> {
-                    connectableFound[0] = entry.getKey();
-                })
-                .filter(entry -> entry.getValue().eventApplies(delegateTask.getEventName()))
-                // found handler-reference
-                .findFirst()
-                .map(Map.Entry::getValue)
-                .ifPresentOrElse(
-                        handler -> handler.notify(delegateTask),
-                        () -> logger.debug(
-                                "Unmapped event '{}'! "
-                                + "If you need to process this event add a parameter "
-                                + "'@TaskEvent Event event' to the method annotated by "
-                                + "'@WorkflowTask(taskDefinition = \"{}\") in any class "
-                                + "annotated by '@WorkflowService(bpmnProcess = @BpmnProcess(bpmnProcessId = \"{}\"))'.",
-                                delegateTask.getEventName(),
-                                connectableFound[0].getTaskDefinition(),
-                                connectableFound[0].getBpmnProcessId()));
+        final var element = execution.getBpmnModelElementInstance();
+        if (element == null) {
+            return;
+        }
+
+        final var eventName = delegateTask.getEventName();
+
+        final var byElementId = findTaskHandler(
+                taskHandlersByElementId,
+                bpmnProcessId,
+                element.getId());
+        if ((byElementId != null)
+                && byElementId.getValue().eventApplies(eventName)) {
+            byElementId.getValue().notify(delegateTask);
+            return;
+        }
+
+        final var byFormKey = findTaskHandler(
+                taskHandlersByFormKey,
+                bpmnProcessId,
+                ((UserTask) element).getCamundaFormKey());
+        if ((byFormKey != null)
+                && byFormKey.getValue().eventApplies(eventName)) {
+            byFormKey.getValue().notify(delegateTask);
+            return;
+        }
+
+        final var connectableFound = byFormKey != null
+                ? byFormKey.getKey()
+                : byElementId != null
+                ? byElementId.getKey()
+                : null;
+        if (connectableFound == null) {
+            return;
+        }
+        logger.debug(
+                "Unmapped event '{}'! "
+                + "If you need to process this event add a parameter "
+                + "'@TaskEvent Event event' to the method annotated by "
+                + "'@WorkflowTask(taskDefinition = \"{}\") in any class "
+                + "annotated by '@WorkflowService(bpmnProcess = @BpmnProcess(bpmnProcessId = \"{}\"))'.",
+                eventName,
+                connectableFound.getTaskDefinition(),
+                connectableFound.getBpmnProcessId());
         
     }
     
@@ -32,6 +32,8 @@ public class Camunda7UserTaskHandler extends TaskHandlerBase implements TaskList
     
     private final String bpmnProcessId;
 
+    private final Set<TaskEvent.Event> events;
+
     public Camunda7UserTaskHandler(
             final String bpmnProcessId,
             final CrudRepository<Object, Object> workflowAggregateRepository,
@@ -45,6 +47,12 @@ public class Camunda7UserTaskHandler extends TaskHandlerBase implements TaskList
         this.bpmnProcessId = bpmnProcessId;
         this.processService = processService;
         this.workflowModuleId = workflowModuleId;
+        this.events = parameters
+                .stream()
+                .filter(parameter -> parameter instanceof TaskEventMethodParameter)
+                .map(parameter -> ((TaskEventMethodParameter) parameter).getEvents())
+                .findFirst()
+                .orElse(Set.of(TaskEvent.Event.CREATED));
         
     }
 
@@ -94,7 +102,14 @@ public class Camunda7UserTaskHandler extends TaskHandlerBase implements TaskList
             final var workflowAggregateId = processService
                     .getWorkflowAggregateIdFromBusinessKey(execution.getBusinessKey());
             
+            // reuse aggregate already loaded within the current command
+            final var workflowAggregateSession = WorkflowAggregateSession.current();
             final var workflowAggregateCache = new WorkflowAggregateCache();
+            if (workflowAggregateSession != null) {
+                workflowAggregateCache.workflowAggregate = workflowAggregateSession.getWorkflowAggregate(
+                        processService.getWorkflowAggregateClass(),
+                        workflowAggregateId);
+            }
             
             super.execute(
                     workflowAggregateCache,
@@ -136,6 +151,13 @@ public class Camunda7UserTaskHandler extends TaskHandlerBase implements TaskList
                                 return workflowAggregateCache.workflowAggregate;
                             }, multiInstanceSupplier));
 
+            if (workflowAggregateSession != null) {
+                workflowAggregateSession.putWorkflowAggregate(
+                        processService.getWorkflowAggregateClass(),
+                        workflowAggregateId,
+                        workflowAggregateCache.workflowAggregate);
+            }
+
         } catch (RuntimeException e) {
 
             throw e;
@@ -158,13 +180,7 @@ public class Camunda7UserTaskHandler extends TaskHandlerBase implements TaskList
             return false;
         }
         
-        return this.parameters
-                .stream()
-                .filter(parameter -> parameter instanceof TaskEventMethodParameter)
-                .map(parameter -> ((TaskEventMethodParameter) parameter).getEvents())
-                .findFirst()
-                .orElse(Set.of(TaskEvent.Event.CREATED))
-                .contains(event);
+        return events.contains(event);
         
     }
     
@@ -1,10 +1,14 @@
 package io.vanillabp.camunda7.wiring;
 
 import java.beans.FeatureDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.camunda.bpm.engine.ProcessEngineException;
@@ -25,10 +29,46 @@ public class ProcessEntityELResolver extends ELResolver {
     
     private static final Logger logger = LoggerFactory.getLogger(ProcessEntityELResolver.class);
     
-    private final Map<Camunda7Connectable, Camunda7TaskHandler> taskHandlers = new HashMap<>();
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final PropertyAccessor NO_PROPERTY_ACCESSOR = new PropertyAccessor(null, null, false);
+
+    /*
+     * Handlers indexed by bpmn-process-id and element-id resp. task-definition
+     * to avoid scanning all wired tasks on each expression evaluation.
+     */
+    private final Map<String, Map<String, Map.Entry<Camunda7Connectable, Camunda7TaskHandler>>> taskHandlersByElementId = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, Map.Entry<Camunda7Connectable, Camunda7TaskHandler>>> taskHandlersByTaskDefinition = new ConcurrentHashMap<>();
 
     private final Supplier<Collection<Camunda7ProcessService<?>>> connectableServices;
 
+    /*
+     * Accessors of workflow-aggregate properties resolved once per aggregate class
+     * and property name. Properties not available are cached as NO_PROPERTY_ACCESSOR.
+     */
+    private final Map<Class<?>, Map<String, PropertyAccessor>> propertyAccessors = new ConcurrentHashMap<>();
+
+    private static class PropertyAccessor {
+        final String name;
+        final MethodHandle getter;
+        PropertyAccessor(
+                final String name,
+                final MethodHandle getter,
+                final boolean isStatic) {
+            this.name = name;
+            if (getter == null) {
+                this.getter = null;
+            } else {
+                // static members do not take the workflow aggregate as a parameter
+                final var instanceGetter = isStatic
+                        ? MethodHandles.dropArguments(getter, 0, Object.class)
+                        : getter;
+                this.getter = instanceGetter.asType(MethodType.methodType(Object.class, Object.class));
+            }
+        }
+    }
+
     public ProcessEntityELResolver(
             final Supplier<Collection<Camunda7ProcessService<?>>> connectableServices) {
 
@@ -41,10 +81,41 @@ public class ProcessEntityELResolver extends ELResolver {
             final Camunda7Connectable connectable,
             final Camunda7TaskHandler taskHandler) {
         
-        taskHandlers.put(connectable, taskHandler);
+        final var handler = Map.entry(connectable, taskHandler);
+        if (connectable.getElementId() != null) {
+            taskHandlersByElementId
+                    .computeIfAbsent(connectable.getBpmnProcessId(), bpmnProcessId -> new ConcurrentHashMap<>())
+                    .put(connectable.getElementId(), handler);
+        }
+        if (connectable.getTaskDefinition() != null) {
+            taskHandlersByTaskDefinition
+                    .computeIfAbsent(connectable.getBpmnProcessId(), bpmnProcessId -> new ConcurrentHashMap<>())
+                    .put(connectable.getTaskDefinition(), handler);
+        }
         
     }
 
+    private Map.Entry<Camunda7Connectable, Camunda7TaskHandler> findTaskHandler(
+            final String bpmnProcessId,
+            final String elementId,
+            final String taskDefinition) {
+
+        final var byElementId = taskHandlersByElementId.get(bpmnProcessId);
+        if (byElementId != null) {
+            final var handler = byElementId.get(elementId);
+            if (handler != null) {
+                return handler;
+            }
+        }
+
+        final var byTaskDefinition = taskHandlersByTaskDefinition.get(bpmnProcessId);
+        if (byTaskDefinition == null) {
+            return null;
+        }
+        return byTaskDefinition.get(taskDefinition);
+
+    }
+
     @Override
     public Class<?> getCommonPropertyType(ELContext context, Object base) {
         return Object.class;
@@ -76,104 +147,135 @@ public class ProcessEntityELResolver extends ELResolver {
                 .getProcessDefinition()
                 .getKey();
         
-        final var result = taskHandlers
-                .entrySet()
+        final var element = execution.getBpmnModelElementInstance();
+        final var handler = element == null
+                ? null
+                : findTaskHandler(bpmnProcessId, element.getId(), property.toString());
+        // found handler-reference
+        if (handler != null) {
+            return executeHandler(execution, handler.getKey(), handler.getValue());
+        }
+
+        // otherwise it will be a workflow-aggregate property reference
+        return getWorkflowAggregateProperty(execution, bpmnProcessId, property);
+
+    }
+
+    private Object getWorkflowAggregateProperty(
+            final ExecutionEntity execution,
+            final String bpmnProcessId,
+            final Object property) {
+
+        final var processServiceFound = connectableServices
+                .get()
                 .stream()
-                .filter(entry -> {
-                    final var connectable = entry.getKey();
-                    
-                    if (!connectable.getBpmnProcessId().equals(bpmnProcessId)) {
-                        return false;
-                    }
-                    
-                    final var element = execution.getBpmnModelElementInstance();
-                    if (element == null) {
-                        return false;
-                    }
-                    
-                    return connectable.applies(
-                            element.getId(),
-                            property.toString());
-                })
-                .findFirst()
-                // found handler-reference
-                .map(handler -> executeHandler(execution, handler.getKey(), handler.getValue()))
-                // otherwise it will be a workflow-aggregate property reference
-                .orElseGet(() -> {
-                    final var processServiceFound = connectableServices
-                            .get()
-                            .stream()
-                            .filter(service -> service.getBpmnProcessIds().contains(bpmnProcessId))
-                            .findFirst();
-                    if (processServiceFound.isEmpty()) {
-                        return null;
-                    }
-                    final var processService = processServiceFound.get();
-                    if (execution.getBusinessKey() == null) {
-                        return null;
-                    }
-
-                    final var id = processService
-                            .getWorkflowAggregateIdFromBusinessKey(execution.getBusinessKey());
-                    final var workflowAggregateFound = processService
-                            .getWorkflowAggregateRepository()
-                            .findById(id);
-                    if (workflowAggregateFound.isEmpty()) {
-                        return null;
-                    }
-                    final var workflowAggregate = workflowAggregateFound.get();
-                    
-                    final var workflowAggregateClass = processService
-                            .getWorkflowAggregateClass();
-                    
-                    // use getter
-                    final var getterName = "get"
-                                + CaseUtils.firstCharacterToUpperCase(property.toString());
-                    try {
-                        return workflowAggregateClass
-                                .getMethod(getterName)
-                                .invoke(workflowAggregate);
-                    } catch (NoSuchMethodException e) {
-                        /* ignored */
-                    } catch (Exception e) {
-                        logger.warn("Could not access '{}#{}'",
-                                workflowAggregateClass.getName(), getterName, e);
-                        return null;
-                    }
-
-                    // use getter for booleans
-                    final var isGetterName = "is"
-                            + CaseUtils.firstCharacterToUpperCase(property.toString());
-                    try {
-                        return workflowAggregateClass
-                                .getMethod(isGetterName)
-                                .invoke(workflowAggregate);
-                    } catch (NoSuchMethodException e) {
-                        /* ignored */
-                    } catch (Exception e) {
-                        logger.warn("Could not access '{}#{}'",
-                                workflowAggregateClass.getName(), isGetterName, e);
-                        return null;
-                    }
-                    
-                    // use property
-                    try {
-                        final var field = workflowAggregateClass
-                                .getDeclaredField(property.toString());
-                        field.setAccessible(true);
-                        return field.get(workflowAggregate);
-                    } catch (NoSuchFieldException e) {
-                        /* ignored */
-                    } catch (Exception e) {
-                        logger.warn("Could not access property '{}' in class '{}'",
-                                property.toString(), workflowAggregateClass.getName(), e);
-                        return null;
-                    }
-                    
-                    return null;
-                });
+                .filter(service -> service.getBpmnProcessIds().contains(bpmnProcessId))
+                .findFirst();
+        if (processServiceFound.isEmpty()) {
+            return null;
+        }
+        final var processService = processServiceFound.get();
+        if (execution.getBusinessKey() == null) {
+            return null;
+        }
+
+        // resolve accessor first to avoid loading the aggregate for unknown properties
+        final var workflowAggregateClass = processService
+                .getWorkflowAggregateClass();
+        final var accessor = getPropertyAccessor(workflowAggregateClass, property.toString());
+        if (accessor == NO_PROPERTY_ACCESSOR) {
+            return null;
+        }
+
+        final var id = processService
+                .getWorkflowAggregateIdFromBusinessKey(execution.getBusinessKey());
+        final var workflowAggregateFound = WorkflowAggregateSession.findWorkflowAggregate(
+                workflowAggregateClass,
+                id,
+                processService.getWorkflowAggregateRepository());
+        if (workflowAggregateFound.isEmpty()) {
+            return null;
+        }
+        final Object workflowAggregate = workflowAggregateFound.get();
+        
+        try {
+            return accessor.getter.invokeExact(workflowAggregate);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            logger.warn("Could not access '{}#{}'",
+                    workflowAggregateClass.getName(), accessor.name, e);
+            return null;
+        }
+
+    }
+
+    private PropertyAccessor getPropertyAccessor(
+            final Class<?> workflowAggregateClass,
+            final String property) {
+
+        return propertyAccessors
+                .computeIfAbsent(workflowAggregateClass, aggregateClass -> new ConcurrentHashMap<>())
+                .computeIfAbsent(property, name -> resolvePropertyAccessor(workflowAggregateClass, name));
+
+    }
+
+    private static PropertyAccessor resolvePropertyAccessor(
+            final Class<?> workflowAggregateClass,
+            final String property) {
+
+        // use getter
+        final var getterName = "get"
+                    + CaseUtils.firstCharacterToUpperCase(property);
+        try {
+            final var getter = workflowAggregateClass.getMethod(getterName);
+            return new PropertyAccessor(
+                    getterName,
+                    LOOKUP.unreflect(getter),
+                    Modifier.isStatic(getter.getModifiers()));
+        } catch (NoSuchMethodException e) {
+            /* ignored */
+        } catch (Exception e) {
+            logger.warn("Could not access '{}#{}'",
+                    workflowAggregateClass.getName(), getterName, e);
+            return NO_PROPERTY_ACCESSOR;
+        }
+
+        // use getter for booleans
+        final var isGetterName = "is"
+                + CaseUtils.firstCharacterToUpperCase(property);
+        try {
+            final var isGetter = workflowAggregateClass.getMethod(isGetterName);
+            return new PropertyAccessor(
+                    isGetterName,
+                    LOOKUP.unreflect(isGetter),
+                    Modifier.isStatic(isGetter.getModifiers()));
+        } catch (NoSuchMethodException e) {
+            /* ignored */
+        } catch (Exception e) {
+            logger.warn("Could not access '{}#{}'",
+                    workflowAggregateClass.getName(), isGetterName, e);
+            return NO_PROPERTY_ACCESSOR;
+        }
+        
+        // use property
+        try {
+            final var field = workflowAggregateClass
+                    .getDeclaredField(property);
+            field.setAccessible(true);
+            return new PropertyAccessor(
+                    property,
+                    LOOKUP.unreflectGetter(field),
+                    Modifier.isStatic(field.getModifiers()));
+        } catch (NoSuchFieldException e) {
+            /* ignored */
+        } catch (Exception e) {
+            logger.warn("Could not access property '{}' in class '{}'",
+                    property, workflowAggregateClass.getName(), e);
+            return NO_PROPERTY_ACCESSOR;
+        }
         
-        return result;
+        return NO_PROPERTY_ACCESSOR;
 
     }
     
@@ -3,6 +3,7 @@ package io.vanillabp.camunda7.wiring;
 import io.vanillabp.camunda7.Camunda7VanillaBpProperties;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.camunda.bpm.engine.impl.bpmn.behavior.DmnBusinessRuleTaskActivityBehavior;
@@ -11,6 +12,7 @@ import org.camunda.bpm.engine.impl.bpmn.listener.DelegateExpressionExecutionList
 import org.camunda.bpm.engine.impl.bpmn.listener.ExpressionExecutionListener;
 import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParse;
 import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParseListener;
+import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.core.variable.mapping.IoMapping;
 import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.camunda.bpm.engine.impl.pvm.process.ActivityImpl;
@@ -33,13 +35,18 @@ public class TaskWiringBpmnParseListener implements BpmnParseListener {
     
     private final Camunda7VanillaBpProperties properties;
     
-    private List<Camunda7Connectable> connectables = new LinkedList<>();
+    // process definitions may be parsed concurrently
+    private static final ThreadLocal<List<Camunda7Connectable>> connectables = ThreadLocal.withInitial(LinkedList::new);
     
     private static final ThreadLocal<LinkedList<ToBeWired>> toBeWired = ThreadLocal.withInitial(LinkedList::new);
     
-    private static final ThreadLocal<Boolean> oldVersionBpmn = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    // not set if parsed by Camunda on first access of a process definition
+    private static final ThreadLocal<Boolean> oldVersionBpmn = new ThreadLocal<>();
     
     static final ThreadLocal<String> workflowModuleId = new ThreadLocal<>();
+    
+    // wiring manifests of parsed process definitions by BPMN process id if requested
+    private static final ThreadLocal<Map<String, WiringManifest>> wiringManifests = new ThreadLocal<>();
 
     static class ToBeWired {
         String workflowModuleId;
@@ -69,9 +76,53 @@ public class TaskWiringBpmnParseListener implements BpmnParseListener {
     }
     
     public static void setOldVersionBpmn(
-            final boolean oldVersionBpmn) {
+            final Boolean oldVersionBpmn) {
+        
+        if (oldVersionBpmn == null) {
+            TaskWiringBpmnParseListener.oldVersionBpmn.remove();
+        } else {
+            TaskWiringBpmnParseListener.oldVersionBpmn.set(oldVersionBpmn);
+        }
         
-        TaskWiringBpmnParseListener.oldVersionBpmn.set(oldVersionBpmn);
+    }
+    
+    /**
+     * @param wiringManifests The map to record the wiring manifests of process
+     *                        definitions parsed by the current thread or null to stop recording
+     */
+    public static void recordWiringManifests(
+            final Map<String, WiringManifest> wiringManifests) {
+        
+        if (wiringManifests == null) {
+            TaskWiringBpmnParseListener.wiringManifests.remove();
+        } else {
+            TaskWiringBpmnParseListener.wiringManifests.set(wiringManifests);
+        }
+        
+    }
+    
+    private boolean isOldVersionBpmn(
+            final ProcessDefinitionEntity processDefinition) {
+        
+        final var result = oldVersionBpmn.get();
+        if (result != null) {
+            return result;
+        }
+        // parsed by Camunda on first access: only the latest version registers
+        // start events. Ids are not yet assigned while parsing but a deployment
+        // contains only one version per key.
+        final var commandContext = Context.getCommandContext();
+        if ((processDefinition == null)
+                || (commandContext == null)) {
+            return true;
+        }
+        final var latestVersion = commandContext
+                .getProcessDefinitionManager()
+                .findLatestProcessDefinitionByKeyAndTenantId(
+                        processDefinition.getKey(),
+                        processDefinition.getTenantId());
+        return (latestVersion != null)
+                && !latestVersion.getDeploymentId().equals(processDefinition.getDeploymentId());
         
     }
     
@@ -102,10 +153,10 @@ public class TaskWiringBpmnParseListener implements BpmnParseListener {
         process.workflowModuleId = workflowModuleId.get();
         process.messageBasedStartEventsMessages = messageBasedStartEventsMessageRefs;
         process.signalBasedStartEventsSignals = signalBasedStartEventsSignalRefs;
-        process.connectables = connectables;
+        process.connectables = connectables.get();
         toBeWired.get().add(process);
 
-        connectables = new LinkedList<>();
+        connectables.set(new LinkedList<>());
 
     }
     
@@ -153,7 +204,7 @@ public class TaskWiringBpmnParseListener implements BpmnParseListener {
                 taskDefinition.getFormKey() != null ? taskDefinition.getFormKey().getExpressionText() : null,
                 Camunda7Connectable.Type.USERTASK);
         
-        connectables.add(connectable);
+        connectables.get().add(connectable);
         
         resetAsyncForWaitstateTasks(userTaskElement, activity);
 
@@ -172,7 +223,7 @@ public class TaskWiringBpmnParseListener implements BpmnParseListener {
                 expression,
                 type);
         
-        connectables.add(connectable);
+        connectables.get().add(connectable);
         
     }
     
@@ -283,7 +334,7 @@ public class TaskWiringBpmnParseListener implements BpmnParseListener {
                     
         }
         
-        connectables.add(connectable);
+        connectables.get().add(connectable);
         
         return true;
         
@@ -610,6 +661,9 @@ public class TaskWiringBpmnParseListener implements BpmnParseListener {
             final Element rootElement,
             final List<ProcessDefinitionEntity> processDefinitions) {
         
+        final var processDefinitionsByKey = processDefinitions
+                .stream()
+                .collect(Collectors.toMap(ProcessDefinitionEntity::getKey, definition -> definition));
         toBeWired
                 .get()
                 .stream()
@@ -637,15 +691,22 @@ public class TaskWiringBpmnParseListener implements BpmnParseListener {
                                     .map(message -> message.attribute("name")))
                             .collect(Collectors.toList());
                 })
-                .forEach(tbw -> {
-                    final var processService = taskWiring.wireService(
-                            tbw.workflowModuleId,
-                            tbw.bpmnProcessId,
-                            oldVersionBpmn.get() ? null : tbw.messageBasedStartEventsMessages,
-                            oldVersionBpmn.get() ? null : tbw.signalBasedStartEventsSignals);
-                    tbw.connectables
-                            .forEach(connectable -> taskWiring.wireTask(workflowModuleId.get(), processService, connectable));
-                });
+                .map(tbw -> Map.entry(tbw.workflowModuleId, new WiringManifest(
+                        null,
+                        tbw.bpmnProcessId,
+                        tbw.messageBasedStartEventsMessages,
+                        tbw.signalBasedStartEventsSignals,
+                        tbw.connectables)))
+                .peek(manifest -> {
+                    final var recordedManifests = wiringManifests.get();
+                    if (recordedManifests != null) {
+                        recordedManifests.put(manifest.getValue().getBpmnProcessId(), manifest.getValue());
+                    }
+                })
+                .forEach(manifest -> taskWiring.wire(
+                        manifest.getKey(),
+                        manifest.getValue(),
+                        isOldVersionBpmn(processDefinitionsByKey.get(manifest.getValue().getBpmnProcessId()))));
         toBeWired.get().clear();
         
     }
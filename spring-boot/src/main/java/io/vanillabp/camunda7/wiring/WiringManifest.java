@@ -0,0 +1,178 @@
+package io.vanillabp.camunda7.wiring;
+
+import io.vanillabp.camunda7.utils.LengthPrefixedEncoding;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/*
+ * Everything needed to wire a process definition without parsing its BPMN.
+ * Encoded as "#1:" followed by length-prefixed fields. The checksum of the
+ * BPMN resource is part of the manifest to detect manifests not matching
+ * the process definition.
+ */
+public class WiringManifest {
+
+    private static final String VERSION_PREFIX = "#1:";
+
+    private final String resourceChecksum;
+
+    private final String bpmnProcessId;
+
+    private final List<String> messageBasedStartEventsMessages;
+
+    private final List<String> signalBasedStartEventsSignals;
+
+    private final List<Camunda7Connectable> connectables;
+
+    WiringManifest(
+            final String resourceChecksum,
+            final String bpmnProcessId,
+            final List<String> messageBasedStartEventsMessages,
+            final List<String> signalBasedStartEventsSignals,
+            final List<Camunda7Connectable> connectables) {
+
+        this.resourceChecksum = resourceChecksum;
+        this.bpmnProcessId = bpmnProcessId;
+        this.messageBasedStartEventsMessages = messageBasedStartEventsMessages;
+        this.signalBasedStartEventsSignals = signalBasedStartEventsSignals;
+        this.connectables = connectables;
+
+    }
+
+    public WiringManifest withResourceChecksum(
+            final String resourceChecksum) {
+
+        return new WiringManifest(
+                resourceChecksum,
+                bpmnProcessId,
+                messageBasedStartEventsMessages,
+                signalBasedStartEventsSignals,
+                connectables);
+
+    }
+
+    public String getResourceChecksum() {
+
+        return resourceChecksum;
+
+    }
+
+    public String getBpmnProcessId() {
+
+        return bpmnProcessId;
+
+    }
+
+    public List<String> getMessageBasedStartEventsMessages() {
+
+        return messageBasedStartEventsMessages;
+
+    }
+
+    public List<String> getSignalBasedStartEventsSignals() {
+
+        return signalBasedStartEventsSignals;
+
+    }
+
+    public List<Camunda7Connectable> getConnectables() {
+
+        return connectables;
+
+    }
+
+    public String toCanonicalString() {
+
+        final var result = new StringBuilder(VERSION_PREFIX);
+        LengthPrefixedEncoding.append(result, resourceChecksum);
+        LengthPrefixedEncoding.append(result, bpmnProcessId);
+        appendList(result, messageBasedStartEventsMessages);
+        appendList(result, signalBasedStartEventsSignals);
+        LengthPrefixedEncoding.append(result, Integer.toString(connectables.size()));
+        connectables.forEach(connectable -> {
+            LengthPrefixedEncoding.append(result, connectable.getType().name());
+            LengthPrefixedEncoding.append(result, connectable.getBpmnProcessId());
+            LengthPrefixedEncoding.append(result, connectable.getVersionInfo());
+            LengthPrefixedEncoding.append(result, connectable.getElementId());
+            LengthPrefixedEncoding.append(result, connectable.getTaskDefinition());
+        });
+        return result.toString();
+
+    }
+
+    private static void appendList(
+            final StringBuilder result,
+            final List<String> values) {
+
+        LengthPrefixedEncoding.append(result, Integer.toString(values.size()));
+        values.forEach(value -> LengthPrefixedEncoding.append(result, value));
+
+    }
+
+    /**
+     * @return The manifest decoded or null if the string is not a valid manifest
+     *         (e.g. written by an incompatible version)
+     */
+    public static WiringManifest fromCanonicalString(
+            final String canonicalString) {
+
+        if ((canonicalString == null)
+                || !canonicalString.startsWith(VERSION_PREFIX)) {
+            return null;
+        }
+        final var fields = LengthPrefixedEncoding.decode(canonicalString, VERSION_PREFIX.length(), -1);
+        if (fields == null) {
+            return null;
+        }
+
+        try {
+
+            final var iterator = fields.iterator();
+            final var resourceChecksum = iterator.next();
+            final var bpmnProcessId = iterator.next();
+            final var messages = nextList(iterator.next(), iterator);
+            final var signals = nextList(iterator.next(), iterator);
+            final var numberOfConnectables = Integer.parseInt(iterator.next());
+            final var connectables = new LinkedList<Camunda7Connectable>();
+            for (var i = 0; i < numberOfConnectables; ++i) {
+                final var type = Camunda7Connectable.Type.valueOf(iterator.next());
+                connectables.add(new Camunda7Connectable(
+                        iterator.next(),
+                        iterator.next(),
+                        iterator.next(),
+                        iterator.next(),
+                        type));
+            }
+            if (iterator.hasNext()) {
+                return null;
+            }
+
+            return new WiringManifest(
+                    resourceChecksum,
+                    bpmnProcessId,
+                    messages,
+                    signals,
+                    connectables);
+
+        } catch (RuntimeException e) {
+            // e.g. unknown connectable type or wrong number of fields
+            return null;
+        }
+
+    }
+
+    private static List<String> nextList(
+            final String size,
+            final Iterator<String> iterator) {
+
+        final var numberOfValues = Integer.parseInt(size);
+        final var result = new LinkedList<String>();
+        for (var i = 0; i < numberOfValues; ++i) {
+            result.add(iterator.next());
+        }
+        return result;
+
+    }
+
+}
@@ -0,0 +1,102 @@
+package io.vanillabp.camunda7.wiring;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.interceptor.Session;
+import org.springframework.data.repository.CrudRepository;
+
+/*
+ * Command-scoped cache of workflow aggregates. Expression resolution and task handlers
+ * running within the same Camunda command share one loaded instance per aggregate
+ * instead of querying the repository on each access.
+ */
+public class WorkflowAggregateSession implements Session {
+
+    private final Map<Class<?>, Map<Object, Object>> workflowAggregates = new HashMap<>();
+
+    /**
+     * @return The session of the current command or null if not running within a command
+     */
+    public static WorkflowAggregateSession current() {
+
+        final var commandContext = Context.getCommandContext();
+        if (commandContext == null) {
+            return null;
+        }
+        return commandContext.getSession(WorkflowAggregateSession.class);
+
+    }
+
+    /**
+     * Finds the workflow aggregate in the current command's session or, if not
+     * cached yet, by using the given repository.
+     */
+    public static Optional<Object> findWorkflowAggregate(
+            final Class<?> workflowAggregateClass,
+            final Object workflowAggregateId,
+            final CrudRepository<?, Object> workflowAggregateRepository) {
+
+        final var session = current();
+        if (session == null) {
+            return workflowAggregateRepository
+                    .findById(workflowAggregateId)
+                    .map(Object.class::cast);
+        }
+
+        final var cached = session.getWorkflowAggregate(workflowAggregateClass, workflowAggregateId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        final var found = workflowAggregateRepository
+                .findById(workflowAggregateId)
+                .map(Object.class::cast);
+        found.ifPresent(workflowAggregate -> session.putWorkflowAggregate(
+                workflowAggregateClass,
+                workflowAggregateId,
+                workflowAggregate));
+        return found;
+
+    }
+
+    public Object getWorkflowAggregate(
+            final Class<?> workflowAggregateClass,
+            final Object workflowAggregateId) {
+
+        final var aggregates = workflowAggregates.get(workflowAggregateClass);
+        if (aggregates == null) {
+            return null;
+        }
+        return aggregates.get(workflowAggregateId);
+
+    }
+
+    public void putWorkflowAggregate(
+            final Class<?> workflowAggregateClass,
+            final Object workflowAggregateId,
+            final Object workflowAggregate) {
+
+        if (workflowAggregate == null) {
+            return;
+        }
+        workflowAggregates
+                .computeIfAbsent(workflowAggregateClass, aggregateClass -> new HashMap<>())
+                .put(workflowAggregateId, workflowAggregate);
+
+    }
+
+    @Override
+    public void flush() {
+        // nothing to do since aggregates are persisted by their repositories
+    }
+
+    @Override
+    public void close() {
+
+        workflowAggregates.clear();
+
+    }
+
+}
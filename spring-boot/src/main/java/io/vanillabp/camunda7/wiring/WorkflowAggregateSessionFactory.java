@@ -0,0 +1,22 @@
+package io.vanillabp.camunda7.wiring;
+
+import org.camunda.bpm.engine.impl.interceptor.Session;
+import org.camunda.bpm.engine.impl.interceptor.SessionFactory;
+
+public class WorkflowAggregateSessionFactory implements SessionFactory {
+
+    @Override
+    public Class<?> getSessionType() {
+
+        return WorkflowAggregateSession.class;
+
+    }
+
+    @Override
+    public Session openSession() {
+
+        return new WorkflowAggregateSession();
+
+    }
+
+}
@@ -0,0 +1,60 @@
+package io.vanillabp.camunda7;
+
+import java.util.UUID;
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+/*
+ * Runs each test against a process engine of its own backed by an in-memory
+ * H2 database. The job-executor is not activated, so jobs are executed only
+ * if a test does so.
+ */
+public abstract class AbstractProcessEngineTest {
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+    protected ProcessEngine processEngine;
+
+    @BeforeEach
+    public void startProcessEngine() throws Exception {
+
+        final var name = UUID.randomUUID().toString();
+        processEngineConfiguration = (ProcessEngineConfigurationImpl) ProcessEngineConfiguration
+                .createStandaloneInMemProcessEngineConfiguration()
+                .setProcessEngineName(name)
+                .setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1")
+                .setJobExecutorActivate(false);
+        configure(processEngineConfiguration);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+    }
+
+    @AfterEach
+    public void stopProcessEngine() {
+
+        processEngine.close();
+
+    }
+
+    /**
+     * Hook to customize the configuration before the process engine is built.
+     */
+    protected void configure(
+            final ProcessEngineConfigurationImpl configuration) throws Exception {
+        // nothing to customize by default
+    }
+
+    protected <T> T execute(
+            final Command<T> command) {
+
+        return processEngineConfiguration
+                .getCommandExecutorTxRequired()
+                .execute(command);
+
+    }
+
+}
@@ -0,0 +1,78 @@
+package io.vanillabp.camunda7.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import io.vanillabp.camunda7.AbstractProcessEngineTest;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.camunda.bpm.engine.repository.ProcessDefinition;
+import org.junit.jupiter.api.Test;
+
+public class Camunda7DeploymentAdapterTest extends AbstractProcessEngineTest {
+
+    private static final String COLLABORATION = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <definitions xmlns="http://www.omg.org/spec/BPMN/20100524/MODEL"
+                         xmlns:camunda="http://camunda.org/schema/1.0/bpmn"
+                         targetNamespace="http://vanillabp.io/test">
+              <collaboration id="collaboration">
+                <participant id="participantA" processRef="processA" />
+                <participant id="participantB" processRef="processB" />
+              </collaboration>
+              <process id="processA" isExecutable="true" camunda:historyTimeToLive="180">
+                <startEvent id="startA" />
+              </process>
+              <process id="processB" isExecutable="true" camunda:historyTimeToLive="180">
+                <startEvent id="startB" />
+              </process>
+            </definitions>
+            """;
+
+    @Test
+    public void processesOfOneResourceAreWiredIndividually() {
+
+        final var firstDeployment = deployCollaboration();
+        final var secondDeployment = deployCollaboration();
+        final var store = new WiringManifestStore(processEngine);
+
+        // identical resources
+        assertEquals(
+                store.getResourceChecksum(firstDeployment.get(0)),
+                store.getResourceChecksum(secondDeployment.get(0)));
+
+        // same de-duplication as done by Camunda7DeploymentAdapter#wireDeployedDefinitions
+        final var wiredDefinitions = new HashSet<String>();
+        final var definitionsWired = Stream
+                .concat(firstDeployment.stream(), secondDeployment.stream())
+                .filter(definition -> wiredDefinitions.add(Camunda7DeploymentAdapter.getWiredDefinitionKey(
+                        "module",
+                        definition,
+                        store.getResourceChecksum(definition))))
+                .map(ProcessDefinition::getId)
+                .collect(Collectors.toSet());
+
+        // each process of the collaboration is wired once
+        assertEquals(
+                firstDeployment.stream().map(ProcessDefinition::getId).collect(Collectors.toSet()),
+                definitionsWired);
+        assertNotEquals(
+                firstDeployment.get(0).getKey(),
+                firstDeployment.get(1).getKey());
+
+    }
+
+    private List<ProcessDefinition> deployCollaboration() {
+
+        return processEngine
+                .getRepositoryService()
+                .createDeployment()
+                .addString("collaboration.bpmn", COLLABORATION)
+                .deployWithResult()
+                .getDeployedProcessDefinitions();
+
+    }
+
+}
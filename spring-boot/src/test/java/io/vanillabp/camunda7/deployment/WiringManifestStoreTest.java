@@ -0,0 +1,140 @@
+package io.vanillabp.camunda7.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vanillabp.camunda7.AbstractProcessEngineTest;
+import io.vanillabp.camunda7.utils.LengthPrefixedEncoding;
+import io.vanillabp.camunda7.wiring.WiringManifest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import org.camunda.bpm.engine.impl.persistence.entity.ResourceEntity;
+import org.camunda.bpm.engine.repository.ProcessDefinition;
+import org.camunda.bpm.engine.repository.ResourceTypes;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class WiringManifestStoreTest extends AbstractProcessEngineTest {
+
+    private ProcessDefinition definition;
+
+    @BeforeEach
+    public void deployProcess() {
+
+        definition = processEngine
+                .getRepositoryService()
+                .createDeployment()
+                .addModelInstance("process.bpmn", Bpmn
+                        .createExecutableProcess("process")
+                        .startEvent()
+                        .endEvent()
+                        .done())
+                .deployWithResult()
+                .getDeployedProcessDefinitions()
+                .get(0);
+
+    }
+
+    @Test
+    public void checksumIsCalculatedWithoutManifest() throws Exception {
+
+        final var store = new WiringManifestStore(processEngine);
+
+        assertEquals(getResourceChecksum(), store.getResourceChecksum(definition));
+        assertTrue(store.findWiringManifest(definition).isEmpty());
+
+    }
+
+    @Test
+    public void checksumOfManifestIsUsed() {
+
+        insertManifestResource(manifest("stored-checksum").toCanonicalString());
+
+        final var store = new WiringManifestStore(processEngine);
+
+        assertEquals("stored-checksum", store.getResourceChecksum(definition));
+
+    }
+
+    @Test
+    public void checksumIsCalculatedForInvalidManifest() throws Exception {
+
+        insertManifestResource("#0:written by an incompatible version");
+
+        final var store = new WiringManifestStore(processEngine);
+
+        assertTrue(store.findWiringManifest(definition).isEmpty());
+        assertEquals(getResourceChecksum(), store.getResourceChecksum(definition));
+
+    }
+
+    @Test
+    public void manifestIsStoredOnce() throws Exception {
+
+        // e.g. two nodes or subsequent startups parsing the same old version
+        new WiringManifestStore(processEngine).storeWiringManifest(definition, manifest(null));
+        final var otherStore = new WiringManifestStore(processEngine);
+        otherStore.storeWiringManifest(definition, manifest(null));
+        otherStore.storeWiringManifest(definition, manifest(null));
+
+        final var manifestResources = processEngine
+                .getRepositoryService()
+                .getDeploymentResources(definition.getDeploymentId())
+                .stream()
+                .filter(resource -> resource.getName().equals(
+                        WiringManifestStore.getWiringManifestName(definition)))
+                .toList();
+        assertEquals(1, manifestResources.size());
+        assertEquals(
+                getResourceChecksum(),
+                new WiringManifestStore(processEngine)
+                        .findWiringManifest(definition)
+                        .orElseThrow()
+                        .getResourceChecksum());
+
+    }
+
+    private static WiringManifest manifest(
+            final String resourceChecksum) {
+
+        final var canonicalString = new StringBuilder("#1:");
+        LengthPrefixedEncoding.append(canonicalString, resourceChecksum);
+        LengthPrefixedEncoding.append(canonicalString, "process");
+        LengthPrefixedEncoding.append(canonicalString, "0"); // messages
+        LengthPrefixedEncoding.append(canonicalString, "0"); // signals
+        LengthPrefixedEncoding.append(canonicalString, "0"); // connectables
+        return WiringManifest.fromCanonicalString(canonicalString.toString());
+
+    }
+
+    private void insertManifestResource(
+            final String content) {
+
+        final var resource = new ResourceEntity();
+        resource.setName(WiringManifestStore.getWiringManifestName(definition));
+        resource.setDeploymentId(definition.getDeploymentId());
+        resource.setType(ResourceTypes.REPOSITORY.getValue());
+        resource.setGenerated(true);
+        resource.setBytes(content.getBytes(StandardCharsets.UTF_8));
+        execute(commandContext -> {
+            commandContext.getResourceManager().insertResource(resource);
+            return null;
+        });
+
+    }
+
+    private String getResourceChecksum() throws Exception {
+
+        try (final var resource = processEngine
+                .getRepositoryService()
+                .getResourceAsStream(definition.getDeploymentId(), definition.getResourceName())) {
+            return HexFormat.of().formatHex(MessageDigest
+                    .getInstance("SHA-256")
+                    .digest(resource.readAllBytes()));
+        }
+
+    }
+
+}
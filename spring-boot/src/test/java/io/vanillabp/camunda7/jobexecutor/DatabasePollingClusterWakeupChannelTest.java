@@ -0,0 +1,155 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.vanillabp.camunda7.AbstractProcessEngineTest;
+import io.vanillabp.camunda7.service.WakupJobExecutorNotification;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/*
+ * Uses an in-memory H2 database as a stand-in for the cluster's database.
+ */
+public class DatabasePollingClusterWakeupChannelTest extends AbstractProcessEngineTest {
+
+    private static final Duration POLLING_INTERVAL = Duration.ofMillis(50);
+
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @BeforeEach
+    public void startTaskScheduler() {
+
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(4);
+        taskScheduler.initialize();
+
+    }
+
+    @AfterEach
+    public void stopTaskScheduler() {
+
+        taskScheduler.shutdown();
+
+    }
+
+    @Test
+    public void wakeupIsReceivedByOtherNodesOnly() throws Exception {
+
+        final var publisher = new DatabasePollingClusterWakeupChannel(processEngine, taskScheduler, POLLING_INTERVAL);
+        final var subscriber = new DatabasePollingClusterWakeupChannel(processEngine, taskScheduler, POLLING_INTERVAL);
+        try {
+
+            final var publisherReceived = new LinkedBlockingQueue<WakupJobExecutorNotification>();
+            final var subscriberReceived = new LinkedBlockingQueue<WakupJobExecutorNotification>();
+            publisher.subscribe(publisherReceived::add);
+            subscriber.subscribe(subscriberReceived::add);
+            // let both nodes read the initial value
+            Thread.sleep(POLLING_INTERVAL.multipliedBy(4).toMillis());
+
+            publisher.publish(new WakupJobExecutorNotification(this));
+
+            assertNotNull(subscriberReceived.poll(2, TimeUnit.SECONDS));
+            assertNull(publisherReceived.poll(POLLING_INTERVAL.multipliedBy(4).toMillis(), TimeUnit.MILLISECONDS));
+
+        } finally {
+            publisher.destroy();
+            subscriber.destroy();
+        }
+
+    }
+
+    @Test
+    public void overwrittenSignalIsNotLost() throws Exception {
+
+        final var first = new DatabasePollingClusterWakeupChannel(processEngine, taskScheduler, Duration.ofHours(1));
+        final var second = new DatabasePollingClusterWakeupChannel(processEngine, taskScheduler, Duration.ofHours(1));
+        try {
+
+            final var firstReceived = new LinkedBlockingQueue<WakupJobExecutorNotification>();
+            final var secondReceived = new LinkedBlockingQueue<WakupJobExecutorNotification>();
+            first.readSignal();
+            second.readSignal();
+            first.subscribe(firstReceived::add);
+            second.subscribe(secondReceived::add);
+
+            // the second node replaces the signal of the first one before it is read
+            first.writeSignal();
+            second.writeSignal();
+            assertNotNull(secondReceived.poll());
+            first.readSignal();
+            assertNotNull(firstReceived.poll());
+
+            // the first node replaces the signal of the second one by its own signal
+            second.writeSignal();
+            first.writeSignal();
+            first.readSignal();
+            assertNotNull(firstReceived.poll());
+            assertNull(firstReceived.poll());
+            second.readSignal();
+            assertNotNull(secondReceived.poll());
+            assertNull(secondReceived.poll());
+
+        } finally {
+            first.destroy();
+            second.destroy();
+        }
+
+    }
+
+    @Test
+    public void concurrentFirstWritesDoNotFail() throws Exception {
+
+        final var numberOfNodes = 4;
+        final var barrier = new CyclicBarrier(numberOfNodes);
+        final var executor = Executors.newFixedThreadPool(numberOfNodes);
+        try {
+
+            final var channels = new ArrayList<DatabasePollingClusterWakeupChannel>();
+            for (var i = 0; i < numberOfNodes; ++i) {
+                channels.add(new DatabasePollingClusterWakeupChannel(processEngine, taskScheduler, POLLING_INTERVAL));
+            }
+
+            // several rounds to make concurrent inserts of the first value likely
+            for (var round = 0; round < 20; ++round) {
+
+                processEngine
+                        .getManagementService()
+                        .deleteProperty(DatabasePollingClusterWakeupChannel.PROPERTY_NAME);
+
+                final var writes = new ArrayList<Future<?>>();
+                for (final var channel : channels) {
+                    writes.add(executor.submit(() -> {
+                        barrier.await();
+                        channel.writeSignal();
+                        return null;
+                    }));
+                }
+                for (final var write : writes) {
+                    // fails if duplicate keys or concurrent updates are not retried
+                    write.get(10, TimeUnit.SECONDS);
+                }
+
+                assertNotNull(processEngine
+                        .getManagementService()
+                        .getProperties()
+                        .get(DatabasePollingClusterWakeupChannel.PROPERTY_NAME));
+
+            }
+
+        } finally {
+            executor.shutdownNow();
+        }
+
+    }
+
+}
@@ -0,0 +1,97 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Date;
+import org.junit.jupiter.api.Test;
+
+public class JobDueDateTrackerTest {
+
+    private static final long MAX_STALENESS = 60_000;
+
+    private final JobDueDateTracker tracker = new JobDueDateTracker();
+
+    @Test
+    public void unknownBeforeFirstQuery() {
+
+        assertEquals(JobDueDateTracker.UNKNOWN, tracker.getEarliestDueDate(1_000, MAX_STALENESS));
+
+    }
+
+    @Test
+    public void queriedDueDateIsUsed() {
+
+        tracker.beforeQuery();
+        tracker.afterQuery(10_000, 1_000);
+
+        assertEquals(10_000, tracker.getEarliestDueDate(2_000, MAX_STALENESS));
+
+    }
+
+    @Test
+    public void earlierScheduledDueDateIsUsed() {
+
+        tracker.beforeQuery();
+        tracker.afterQuery(10_000, 1_000);
+        tracker.jobScheduled(new Date(5_000));
+        tracker.jobScheduled(new Date(7_000));
+        tracker.jobScheduled(null);
+
+        assertEquals(5_000, tracker.getEarliestDueDate(2_000, MAX_STALENESS));
+
+    }
+
+    @Test
+    public void jobsScheduledBeforeQueryAreDiscarded() {
+
+        tracker.jobScheduled(new Date(5_000));
+        tracker.beforeQuery();
+        tracker.afterQuery(10_000, 1_000);
+
+        assertEquals(10_000, tracker.getEarliestDueDate(2_000, MAX_STALENESS));
+
+    }
+
+    @Test
+    public void unknownIfDueDateReached() {
+
+        tracker.beforeQuery();
+        tracker.afterQuery(10_000, 1_000);
+
+        assertEquals(JobDueDateTracker.UNKNOWN, tracker.getEarliestDueDate(10_000, MAX_STALENESS));
+
+    }
+
+    @Test
+    public void unknownAfterInvalidation() {
+
+        tracker.beforeQuery();
+        tracker.afterQuery(10_000, 1_000);
+        tracker.invalidate();
+
+        assertEquals(JobDueDateTracker.UNKNOWN, tracker.getEarliestDueDate(2_000, MAX_STALENESS));
+
+    }
+
+    @Test
+    public void noDueDateIsLimitedByStaleness() {
+
+        tracker.beforeQuery();
+        tracker.afterQuery(JobDueDateTracker.NONE, 1_000);
+
+        assertEquals(1_000 + MAX_STALENESS, tracker.getEarliestDueDate(2_000, MAX_STALENESS));
+        assertEquals(JobDueDateTracker.NONE, tracker.getEarliestDueDate(2_000, Long.MAX_VALUE));
+
+    }
+
+    @Test
+    public void unknownIfQueryIsStale() {
+
+        tracker.beforeQuery();
+        tracker.afterQuery(JobDueDateTracker.NONE, 1_000);
+
+        assertEquals(JobDueDateTracker.UNKNOWN, tracker.getEarliestDueDate(1_000 + MAX_STALENESS, MAX_STALENESS));
+
+    }
+
+}
@@ -0,0 +1,139 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vanillabp.camunda7.AbstractProcessEngineTest;
+import io.vanillabp.camunda7.service.jobs.startprocess.StartProcessCommand;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.jobexecutor.JobAcquisitionContext;
+import org.camunda.bpm.engine.impl.jobexecutor.SequentialJobAcquisitionRunnable;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+import org.junit.jupiter.api.Test;
+
+public class JobHandOffTest extends AbstractProcessEngineTest {
+
+    private final List<Runnable> executedJobs = new LinkedList<>();
+
+    private boolean rejectExecution;
+
+    private WakeupJobExecutor jobExecutor;
+
+    private JobExecutorLane lane;
+
+    @Override
+    protected void configure(
+            final ProcessEngineConfigurationImpl configuration) {
+
+        // active without running the acquisition
+        jobExecutor = new WakeupJobExecutor() {
+            @Override
+            public boolean isActive() {
+                return true;
+            }
+        };
+        jobExecutor.setTaskExecutor(task -> {
+            if (rejectExecution) {
+                throw new RejectedExecutionException();
+            }
+            executedJobs.add(task);
+        });
+        jobExecutor.setRejectedJobsHandler(new UnlockRejectedJobsHandler());
+        jobExecutor.ensureInitialization();
+        lane = new JobExecutorLane(
+                "test.lane",
+                null,
+                Set.of(),
+                Set.of("laneProcess"),
+                0,
+                1);
+        jobExecutor.setJobExecutorLanes(new JobExecutorLanes(List.of(lane)));
+
+        configuration.setJobExecutor(jobExecutor);
+        configuration
+                .getProcessEnginePlugins()
+                .add(new WakeupJobExecutorPlugin(
+                        jobExecutor,
+                        new JobHandOff(jobExecutor, Set.of(StartProcessCommand.TYPE))));
+
+    }
+
+    @Test
+    public void jobsAreLockedAndExecutedAfterCommit() {
+
+        final var jobIds = sendJobs("otherProcess", 3);
+
+        assertEquals(3, executedJobs.size());
+        jobIds.forEach(jobId -> assertEquals(jobExecutor.getLockOwner(), getJob(jobId).getLockOwner()));
+
+    }
+
+    @Test
+    public void rejectedJobsAreUnlockedWithoutNotifyingAcquisition() {
+
+        rejectExecution = true;
+
+        final var jobIds = sendJobs("otherProcess", 2);
+
+        assertTrue(executedJobs.isEmpty());
+        jobIds.forEach(jobId -> assertNull(getJob(jobId).getLockOwner()));
+        assertTrue(acquisitionContext().getRejectedJobsByEngine().isEmpty());
+
+    }
+
+    @Test
+    public void laneSlotsAreRespected() {
+
+        final var jobIds = sendJobs("laneProcess", 2);
+
+        assertEquals(1, executedJobs.size());
+        assertEquals(1, jobIds
+                .stream()
+                .filter(jobId -> getJob(jobId).getLockOwner() == null)
+                .count());
+        assertTrue(acquisitionContext().getRejectedJobsByEngine().isEmpty());
+
+        // the slot is released once the job was executed
+        executedJobs.remove(0).run();
+        assertTrue(lane.tryAcquireSlot());
+
+    }
+
+    private List<String> sendJobs(
+            final String bpmnProcessId,
+            final int numberOfJobs) {
+
+        return execute(commandContext -> {
+            final var result = new LinkedList<String>();
+            for (var i = 0; i < numberOfJobs; ++i) {
+                result.add(new StartProcessCommand(null, bpmnProcessId, UUID.randomUUID().toString())
+                        .execute(commandContext));
+            }
+            return result;
+        });
+
+    }
+
+    private JobAcquisitionContext acquisitionContext() {
+
+        return ((SequentialJobAcquisitionRunnable) jobExecutor.getAcquireJobsRunnable())
+                .getAcquisitionContext();
+
+    }
+
+    private JobEntity getJob(
+            final String jobId) {
+
+        return execute(commandContext -> commandContext
+                .getJobManager()
+                .findJobById(jobId));
+
+    }
+
+}
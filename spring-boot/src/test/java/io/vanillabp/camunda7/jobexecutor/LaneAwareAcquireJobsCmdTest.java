@@ -0,0 +1,120 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vanillabp.camunda7.AbstractProcessEngineTest;
+import io.vanillabp.camunda7.service.jobs.startprocess.StartProcessCommand;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.junit.jupiter.api.Test;
+
+public class LaneAwareAcquireJobsCmdTest extends AbstractProcessEngineTest {
+
+    private WakeupJobExecutor jobExecutor;
+
+    private JobExecutorLane lane;
+
+    private JobExecutorLanes lanes;
+
+    @Override
+    protected void configure(
+            final ProcessEngineConfigurationImpl configuration) {
+
+        lane = new JobExecutorLane(
+                "test.lane",
+                "tenant",
+                Set.of(StartProcessCommand.TYPE),
+                Set.of("laneProcess"),
+                0.5f,
+                10);
+        lanes = new JobExecutorLanes(List.of(lane));
+        jobExecutor = new WakeupJobExecutor();
+        jobExecutor.setJobExecutorLanes(lanes);
+
+        configuration.setJobExecutor(jobExecutor);
+        configuration
+                .getProcessEnginePlugins()
+                .add(new WakeupJobExecutorPlugin(jobExecutor, null));
+
+    }
+
+    @Test
+    public void laneIsLimitedToItsShare() {
+
+        final var laneJobIds = sendJobs("tenant", "laneProcess", 4);
+        final var otherJobIds = sendJobs("tenant", "otherProcess", 4);
+
+        final var acquiredJobIds = acquireJobs(4);
+
+        assertEquals(4, acquiredJobIds.size());
+        assertEquals(2, acquiredJobIds.stream().filter(laneJobIds::contains).count());
+        assertEquals(2, acquiredJobIds.stream().filter(otherJobIds::contains).count());
+        acquiredJobIds
+                .stream()
+                .filter(laneJobIds::contains)
+                .forEach(jobId -> assertEquals(lane, lanes.getLane(List.of(jobId))));
+
+    }
+
+    @Test
+    public void jobsOfOtherTenantsDoNotMatch() {
+
+        final var laneJobIds = sendJobs("tenant", "laneProcess", 2);
+        final var otherJobIds = new HashSet<String>();
+        otherJobIds.addAll(sendJobs(null, "laneProcess", 2));
+        otherJobIds.addAll(sendJobs("otherTenant", "laneProcess", 2));
+
+        final var acquiredJobIds = acquireJobs(20);
+
+        assertEquals(6, acquiredJobIds.size());
+        laneJobIds.forEach(jobId -> assertEquals(lane, lanes.getLane(List.of(jobId))));
+        otherJobIds.forEach(jobId -> assertNull(lanes.getLane(List.of(jobId))));
+
+    }
+
+    @Test
+    public void exhaustedLaneIsSkipped() {
+
+        sendJobs("tenant", "laneProcess", 2);
+        final var otherJobIds = sendJobs("tenant", "otherProcess", 2);
+
+        for (var i = 0; i < 10; ++i) {
+            assertTrue(lane.tryAcquireSlot());
+        }
+
+        final var acquiredJobIds = acquireJobs(4);
+
+        assertEquals(otherJobIds, new HashSet<>(acquiredJobIds));
+
+    }
+
+    private Set<String> sendJobs(
+            final String tenantId,
+            final String bpmnProcessId,
+            final int numberOfJobs) {
+
+        final var result = new HashSet<String>();
+        for (var i = 0; i < numberOfJobs; ++i) {
+            result.add(execute(new StartProcessCommand(tenantId, bpmnProcessId, UUID.randomUUID().toString())));
+        }
+        return result;
+
+    }
+
+    private List<String> acquireJobs(
+            final int numJobsToAcquire) {
+
+        return execute(new LaneAwareAcquireJobsCmd(jobExecutor, numJobsToAcquire, lanes))
+                .getJobIdBatches()
+                .stream()
+                .flatMap(List::stream)
+                .toList();
+
+    }
+
+}
@@ -0,0 +1,94 @@
+package io.vanillabp.camunda7.jobexecutor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.camunda.bpm.engine.impl.jobexecutor.AcquiredJobs;
+import org.camunda.bpm.engine.impl.jobexecutor.JobAcquisitionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class WakeupBackoffJobAcquisitionStrategyTest {
+
+    private static final int MAX_JOBS_PER_ACQUISITION = 3;
+
+    private static final int BASE_IDLE_WAIT_TIME = 100;
+
+    private static final int MAX_IDLE_WAIT_TIME = 1_000;
+
+    private final JobDueDateTracker jobDueDateTracker = new JobDueDateTracker();
+
+    private WakeupBackoffJobAcquisitionStrategy strategy;
+
+    @BeforeEach
+    public void createStrategy() {
+
+        final var jobExecutor = new WakeupJobExecutor();
+        jobExecutor.setMaxJobsPerAcquisition(MAX_JOBS_PER_ACQUISITION);
+        jobExecutor.setWaitTimeInMillis(BASE_IDLE_WAIT_TIME);
+        jobExecutor.setMaxWait(MAX_IDLE_WAIT_TIME);
+        jobExecutor.setWaitIncreaseFactor(2);
+        jobExecutor.setAdaptiveAcquisition(true);
+        strategy = new WakeupBackoffJobAcquisitionStrategy(jobExecutor, jobDueDateTracker);
+
+    }
+
+    @Test
+    public void idleLevelsProgressAfterBusyCycles() {
+
+        // busy cycle without locking failures
+        reconfigure(MAX_JOBS_PER_ACQUISITION);
+        assertEquals(0, strategy.getWaitTime());
+
+        // partial batch and empty cycles back off until max idle
+        reconfigure(1);
+        assertEquals(BASE_IDLE_WAIT_TIME, strategy.getWaitTime());
+        reconfigure(0);
+        assertEquals(BASE_IDLE_WAIT_TIME * 2, strategy.getWaitTime());
+        reconfigure(0);
+        assertEquals(BASE_IDLE_WAIT_TIME * 4, strategy.getWaitTime());
+        reconfigure(0);
+        assertEquals(BASE_IDLE_WAIT_TIME * 8, strategy.getWaitTime());
+
+        // at max idle the due-dates of jobs determine the wait time
+        reconfigure(0);
+        assertTrue(strategy.getWaitTime() > MAX_IDLE_WAIT_TIME);
+
+    }
+
+    @Test
+    public void trackedDueDateIsKeptWhileIdle() {
+
+        reconfigure(MAX_JOBS_PER_ACQUISITION);
+        for (var i = 0; i < 5; ++i) {
+            reconfigure(0);
+        }
+        final var now = System.currentTimeMillis();
+        assertNotEquals(JobDueDateTracker.UNKNOWN, jobDueDateTracker.getEarliestDueDate(now, MAX_IDLE_WAIT_TIME));
+
+        reconfigure(0);
+        reconfigure(0);
+        assertNotEquals(JobDueDateTracker.UNKNOWN, jobDueDateTracker.getEarliestDueDate(now, MAX_IDLE_WAIT_TIME));
+
+        // executed jobs may have changed due-dates
+        reconfigure(MAX_JOBS_PER_ACQUISITION);
+        assertEquals(JobDueDateTracker.UNKNOWN, jobDueDateTracker.getEarliestDueDate(now, MAX_IDLE_WAIT_TIME));
+
+    }
+
+    private void reconfigure(
+            final int numberOfJobsAcquired) {
+
+        final var acquiredJobs = new AcquiredJobs(MAX_JOBS_PER_ACQUISITION);
+        for (var i = 0; i < numberOfJobsAcquired; ++i) {
+            acquiredJobs.addJobIdBatch(List.of("job-" + i));
+        }
+        final var context = new JobAcquisitionContext();
+        context.submitAcquiredJobs("engine", acquiredJobs);
+        strategy.reconfigure(context);
+
+    }
+
+}
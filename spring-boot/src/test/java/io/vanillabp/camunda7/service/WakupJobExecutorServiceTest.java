@@ -0,0 +1,106 @@
+package io.vanillabp.camunda7.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.vanillabp.camunda7.AbstractProcessEngineTest;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.jobexecutor.DefaultJobExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class WakupJobExecutorServiceTest extends AbstractProcessEngineTest {
+
+    private static final Duration MIN_WAKEUP_INTERVAL = Duration.ofMillis(300);
+
+    private final AtomicInteger wakeups = new AtomicInteger();
+
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @Override
+    protected void configure(
+            final ProcessEngineConfigurationImpl configuration) {
+
+        configuration.setJobExecutor(new DefaultJobExecutor() {
+            @Override
+            public void jobWasAdded() {
+                wakeups.incrementAndGet();
+            }
+        });
+
+    }
+
+    @BeforeEach
+    public void startTaskScheduler() {
+
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.initialize();
+
+    }
+
+    @AfterEach
+    public void stopTaskScheduler() {
+
+        taskScheduler.shutdown();
+
+    }
+
+    @Test
+    public void notificationsOfOneTransactionAreMerged() {
+
+        final var service = new WakupJobExecutorService(processEngine, null, taskScheduler, MIN_WAKEUP_INTERVAL);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            for (var i = 0; i < 3; ++i) {
+                service.wakeupJobExecutor(new WakupJobExecutorNotification(this));
+            }
+            assertEquals(0, wakeups.get());
+            TransactionSynchronizationManager
+                    .getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(1, wakeups.get());
+        assertEquals(2, service.getSuppressedWakeups());
+
+    }
+
+    @Test
+    public void wakeupsAreRateLimitedByOneTrailingWakeup() throws Exception {
+
+        final var service = new WakupJobExecutorService(processEngine, null, taskScheduler, MIN_WAKEUP_INTERVAL);
+
+        for (var i = 0; i < 3; ++i) {
+            service.wakeupJobExecutor(new WakupJobExecutorNotification(this));
+        }
+        assertEquals(1, wakeups.get());
+
+        Thread.sleep(MIN_WAKEUP_INTERVAL.multipliedBy(3).toMillis());
+        assertEquals(2, wakeups.get());
+        assertEquals(2, service.getSuppressedWakeups());
+
+    }
+
+    @Test
+    public void wakeupsAreNotRateLimitedWithoutTaskScheduler() {
+
+        final var service = new WakupJobExecutorService(processEngine);
+
+        for (var i = 0; i < 3; ++i) {
+            service.wakeupJobExecutor(new WakupJobExecutorNotification(this));
+        }
+
+        assertEquals(3, wakeups.get());
+        assertEquals(0, service.getSuppressedWakeups());
+
+    }
+
+}
@@ -0,0 +1,183 @@
+package io.vanillabp.camunda7.service.correlation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.vanillabp.camunda7.AbstractProcessEngineTest;
+import java.util.List;
+import org.camunda.bpm.engine.impl.MessageCorrelationBuilderImpl;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BulkCorrelateMessageCommandTest extends AbstractProcessEngineTest {
+
+    private static final String MESSAGE_NAME = "message";
+
+    private static final String CORRELATION_ID_VARIABLE = "correlationId";
+
+    @BeforeEach
+    public void deployProcesses() {
+
+        processEngine
+                .getRepositoryService()
+                .createDeployment()
+                .addModelInstance("single.bpmn", Bpmn
+                        .createExecutableProcess("single")
+                        .startEvent()
+                        .receiveTask("receive").message(MESSAGE_NAME)
+                        .userTask("received")
+                        .endEvent()
+                        .done())
+                .addModelInstance("parallel.bpmn", Bpmn
+                        .createExecutableProcess("parallel")
+                        .startEvent()
+                        .parallelGateway("fork")
+                        .receiveTask("receiveA").message(MESSAGE_NAME)
+                        .camundaInputParameter(CORRELATION_ID_VARIABLE, "a")
+                        .userTask("receivedA")
+                        .endEvent()
+                        .moveToNode("fork")
+                        .receiveTask("receiveB").message(MESSAGE_NAME)
+                        .camundaInputParameter(CORRELATION_ID_VARIABLE, "b")
+                        .userTask("receivedB")
+                        .endEvent()
+                        .done())
+                .addModelInstance("start.bpmn", Bpmn
+                        .createExecutableProcess("start")
+                        .startEvent().message(MESSAGE_NAME)
+                        .userTask("started")
+                        .endEvent()
+                        .done())
+                .deploy();
+
+    }
+
+    @Test
+    public void singleWaitingExecutionIsCorrelated() {
+
+        startProcess("single", "key-1");
+        startProcess("single", "key-2");
+
+        final var correlated = correlate(
+                new BulkCorrelateMessageCommand.Item("key-1", null, false),
+                new BulkCorrelateMessageCommand.Item("unknown", null, false),
+                new BulkCorrelateMessageCommand.Item("key-2", null, false));
+
+        assertEquals(List.of(true, false, true), correlated);
+        assertEquals(List.of("received"), taskDefinitionKeys("key-1"));
+        assertEquals(List.of("received"), taskDefinitionKeys("key-2"));
+
+    }
+
+    @Test
+    public void severalWaitingExecutionsAreNotCorrelated() {
+
+        final var processInstanceId = startProcess("parallel", "key");
+
+        final var correlated = correlate(
+                new BulkCorrelateMessageCommand.Item("key", null, false));
+
+        assertEquals(List.of(false), correlated);
+        assertEquals(List.of(), taskDefinitionKeys("key"));
+        assertEquals(2, processEngine
+                .getRuntimeService()
+                .createEventSubscriptionQuery()
+                .processInstanceId(processInstanceId)
+                .count());
+
+    }
+
+    @Test
+    public void waitingExecutionsAreFilteredByCorrelationId() {
+
+        startProcess("parallel", "key");
+
+        final var correlated = correlate(
+                new BulkCorrelateMessageCommand.Item("key", "a", false),
+                new BulkCorrelateMessageCommand.Item("other-key", "b", false));
+
+        assertEquals(List.of(true, false), correlated);
+        assertEquals(List.of("receivedA"), taskDefinitionKeys("key"));
+
+        assertEquals(
+                List.of(false),
+                correlate(new BulkCorrelateMessageCommand.Item("key", "unknown", false)));
+
+    }
+
+    @Test
+    public void businessKeyTwiceInOneBatch() {
+
+        startProcess("parallel", "parallel-key");
+        startProcess("single", "single-key");
+
+        final var correlated = correlate(
+                new BulkCorrelateMessageCommand.Item("parallel-key", "a", false),
+                new BulkCorrelateMessageCommand.Item("single-key", null, false),
+                new BulkCorrelateMessageCommand.Item("parallel-key", "b", false),
+                // the only waiting execution was correlated by the second item
+                new BulkCorrelateMessageCommand.Item("single-key", null, false));
+
+        assertEquals(List.of(true, true, true, false), correlated);
+        assertEquals(List.of("receivedA", "receivedB"), taskDefinitionKeys("parallel-key"));
+        assertEquals(List.of("received"), taskDefinitionKeys("single-key"));
+
+    }
+
+    @Test
+    public void startMessagesMixedWithOtherItems() {
+
+        startProcess("single", "waiting-key");
+
+        final var correlated = correlate(
+                new BulkCorrelateMessageCommand.Item("new-key", null, true),
+                new BulkCorrelateMessageCommand.Item("waiting-key", null, false),
+                new BulkCorrelateMessageCommand.Item("new-key", null, false));
+
+        // the instance started by the first item does not wait for the message
+        assertEquals(List.of(true, true, false), correlated);
+        assertEquals(List.of("started"), taskDefinitionKeys("new-key"));
+        assertEquals(List.of("received"), taskDefinitionKeys("waiting-key"));
+
+    }
+
+    private String startProcess(
+            final String bpmnProcessId,
+            final String businessKey) {
+
+        return processEngine
+                .getRuntimeService()
+                .startProcessInstanceByKey(bpmnProcessId, businessKey)
+                .getId();
+
+    }
+
+    private List<Boolean> correlate(
+            final BulkCorrelateMessageCommand.Item... items) {
+
+        final var commandExecutor = processEngineConfiguration.getCommandExecutorTxRequired();
+        return commandExecutor.execute(new BulkCorrelateMessageCommand(
+                new MessageCorrelationBuilderImpl(commandExecutor, MESSAGE_NAME),
+                null,
+                CORRELATION_ID_VARIABLE,
+                List.of(items)));
+
+    }
+
+    private List<String> taskDefinitionKeys(
+            final String businessKey) {
+
+        return processEngine
+                .getTaskService()
+                .createTaskQuery()
+                .processInstanceBusinessKey(businessKey)
+                .list()
+                .stream()
+                .map(Task::getTaskDefinitionKey)
+                .sorted()
+                .toList();
+
+    }
+
+}
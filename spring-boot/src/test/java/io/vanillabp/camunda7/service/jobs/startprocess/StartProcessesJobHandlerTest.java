@@ -0,0 +1,178 @@
+package io.vanillabp.camunda7.service.jobs.startprocess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.vanillabp.camunda7.AbstractProcessEngineTest;
+import io.vanillabp.camunda7.deployment.LatestProcessDefinitionCache;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.JavaDelegate;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.runtime.Job;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class StartProcessesJobHandlerTest extends AbstractProcessEngineTest {
+
+    private static final String BPMN_PROCESS_ID = "test";
+
+    private static volatile String failOnBusinessKey;
+
+    public static class FailingDelegate implements JavaDelegate {
+
+        @Override
+        public void execute(
+                final DelegateExecution execution) {
+
+            if (execution.getBusinessKey().equals(failOnBusinessKey)) {
+                throw new IllegalStateException("Failing on purpose");
+            }
+
+        }
+
+    }
+
+    @Override
+    protected void configure(
+            final ProcessEngineConfigurationImpl configuration) {
+
+        final var latestProcessDefinitionCache = new LatestProcessDefinitionCache();
+        configuration.setCustomJobHandlers(List.of(
+                new StartProcessJobHandler(latestProcessDefinitionCache),
+                new StartProcessesJobHandler(latestProcessDefinitionCache)));
+
+    }
+
+    @BeforeEach
+    public void deployProcess() {
+
+        processEngine
+                .getRepositoryService()
+                .createDeployment()
+                .addModelInstance("test.bpmn", Bpmn
+                        .createExecutableProcess(BPMN_PROCESS_ID)
+                        .startEvent()
+                        .serviceTask().camundaClass(FailingDelegate.class.getName())
+                        .userTask()
+                        .endEvent()
+                        .done())
+                .deploy();
+
+        failOnBusinessKey = null;
+
+    }
+
+    @Test
+    public void processesAreStartedByCheckpoints() {
+
+        final var businessKeys = businessKeys(120);
+        startProcesses(businessKeys);
+
+        // 50 business keys per checkpoint
+        assertEquals(3, executeJobs());
+        assertEquals(businessKeys, startedBusinessKeys());
+        assertEquals(0, processEngine.getManagementService().createJobQuery().count());
+
+    }
+
+    @Test
+    public void retryIsolatesFailingBusinessKey() {
+
+        final var businessKeys = businessKeys(120);
+        startProcesses(businessKeys);
+
+        failOnBusinessKey = "key-075";
+        final var firstJob = processEngine.getManagementService().createJobQuery().singleResult();
+        processEngine.getManagementService().executeJob(firstJob.getId());
+        final var secondJob = processEngine.getManagementService().createJobQuery().singleResult();
+        assertThrows(IllegalStateException.class,
+                () -> processEngine.getManagementService().executeJob(secondJob.getId()));
+
+        // the checkpoint failing is rolled back completely
+        assertEquals(businessKeys.subList(0, 50), startedBusinessKeys());
+        assertEquals(secondJob.getId(), processEngine.getManagementService().createJobQuery().singleResult().getId());
+
+        // the retry splits the checkpoint into one job per business key
+        processEngine.getManagementService().executeJob(secondJob.getId());
+        assertEquals(businessKeys.subList(0, 50), startedBusinessKeys());
+        assertEquals(51, processEngine.getManagementService().createJobQuery().count());
+
+        // only the business key failing ends up in an incident
+        executeJobs();
+        final var remainingBusinessKeys = new ArrayList<>(businessKeys);
+        remainingBusinessKeys.remove("key-075");
+        assertEquals(remainingBusinessKeys, startedBusinessKeys());
+        assertEquals(1, processEngine.getManagementService().createJobQuery().noRetriesLeft().count());
+        assertEquals(1, processEngine.getManagementService().createJobQuery().count());
+
+        // a retry of the business key failing does not start other processes twice
+        failOnBusinessKey = null;
+        final var failedJob = processEngine.getManagementService().createJobQuery().singleResult();
+        processEngine.getManagementService().setJobRetries(failedJob.getId(), 1);
+        assertEquals(1, executeJobs());
+        assertEquals(businessKeys, startedBusinessKeys());
+
+    }
+
+    private static List<String> businessKeys(
+            final int size) {
+
+        return IntStream
+                .range(0, size)
+                .mapToObj(i -> String.format("key-%03d", i))
+                .toList();
+
+    }
+
+    private void startProcesses(
+            final List<String> businessKeys) {
+
+        execute(new StartProcessesCommand(null, BPMN_PROCESS_ID, businessKeys));
+
+    }
+
+    private int executeJobs() {
+
+        var executed = 0;
+        for (var jobs = nextJobs(); !jobs.isEmpty(); jobs = nextJobs()) {
+            try {
+                processEngine.getManagementService().executeJob(jobs.get(0).getId());
+            } catch (IllegalStateException e) {
+                // failing on purpose, retried until no retries are left
+            }
+            ++executed;
+        }
+        return executed;
+
+    }
+
+    private List<Job> nextJobs() {
+
+        return processEngine
+                .getManagementService()
+                .createJobQuery()
+                .withRetriesLeft()
+                .listPage(0, 1);
+
+    }
+
+    private List<String> startedBusinessKeys() {
+
+        return processEngine
+                .getRuntimeService()
+                .createProcessInstanceQuery()
+                .processDefinitionKey(BPMN_PROCESS_ID)
+                .list()
+                .stream()
+                .map(ProcessInstance::getBusinessKey)
+                .sorted()
+                .toList();
+
+    }
+
+}
@@ -0,0 +1,117 @@
+package io.vanillabp.camunda7.service.usertask;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.vanillabp.camunda7.AbstractProcessEngineTest;
+import java.util.ArrayList;
+import java.util.List;
+import org.camunda.bpm.engine.exception.NullValueException;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BulkUserTaskCompletionCommandTest extends AbstractProcessEngineTest {
+
+    @BeforeEach
+    public void deployProcess() {
+
+        processEngine
+                .getRepositoryService()
+                .createDeployment()
+                .addModelInstance("test.bpmn", Bpmn
+                        .createExecutableProcess("test")
+                        .startEvent()
+                        .userTask("first")
+                        .userTask("second")
+                        .endEvent()
+                        .done())
+                .deploy();
+
+    }
+
+    @Test
+    public void allTasksAreCompleted() {
+
+        final var businessKeys = List.of("key-1", "key-2", "key-3");
+        final var taskIds = businessKeys
+                .stream()
+                .map(this::startProcess)
+                .toList();
+
+        final var completed = new ArrayList<String>();
+        execute(new BulkUserTaskCompletionCommand(
+                null,
+                businessKeys,
+                taskIds,
+                task -> completed.add(task.getProcessInstance().getBusinessKey())));
+
+        assertEquals(businessKeys, completed);
+        businessKeys.forEach(businessKey -> assertEquals(
+                List.of("second"),
+                taskDefinitionKeys(businessKey)));
+
+    }
+
+    @Test
+    public void noTaskIsCompletedIfOneDoesNotBelongToItsBusinessKey() {
+
+        final var taskIds = List.of(startProcess("key-1"), startProcess("key-2"));
+
+        assertThrows(NullValueException.class, () -> execute(new BulkUserTaskCompletionCommand(
+                null,
+                List.of("key-1", "key-1"),
+                taskIds,
+                task -> { })));
+
+        assertEquals(List.of("first"), taskDefinitionKeys("key-1"));
+        assertEquals(List.of("first"), taskDefinitionKeys("key-2"));
+
+    }
+
+    @Test
+    public void tasksOfOtherTenantsAreNotCompleted() {
+
+        final var taskId = startProcess("key");
+
+        assertThrows(NullValueException.class, () -> execute(new BulkUserTaskCompletionCommand(
+                "tenant",
+                List.of("key"),
+                List.of(taskId),
+                task -> { })));
+
+        assertEquals(List.of("first"), taskDefinitionKeys("key"));
+
+    }
+
+    private String startProcess(
+            final String businessKey) {
+
+        final var processInstance = processEngine
+                .getRuntimeService()
+                .startProcessInstanceByKey("test", businessKey);
+        return processEngine
+                .getTaskService()
+                .createTaskQuery()
+                .processInstanceId(processInstance.getId())
+                .singleResult()
+                .getId();
+
+    }
+
+    private List<String> taskDefinitionKeys(
+            final String businessKey) {
+
+        return processEngine
+                .getTaskService()
+                .createTaskQuery()
+                .processInstanceBusinessKey(businessKey)
+                .list()
+                .stream()
+                .map(Task::getTaskDefinitionKey)
+                .toList();
+
+    }
+
+}
@@ -0,0 +1,109 @@
+package io.vanillabp.camunda7.wiring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class WiringManifestTest {
+
+    @Test
+    public void canonicalStringRoundTrip() {
+
+        final var manifest = new WiringManifest(
+                "checksum",
+                "process",
+                List.of("message", "message:with:colons"),
+                List.of("signal"),
+                List.of(
+                        new Camunda7Connectable(
+                                "process",
+                                "1.0 (3)",
+                                "userTask",
+                                "formKey",
+                                Camunda7Connectable.Type.USERTASK),
+                        new Camunda7Connectable(
+                                "process",
+                                null,
+                                "serviceTask",
+                                "",
+                                Camunda7Connectable.Type.DELEGATE_EXPRESSION)));
+
+        final var decoded = WiringManifest.fromCanonicalString(manifest.toCanonicalString());
+
+        assertNotNull(decoded);
+        assertEquals("checksum", decoded.getResourceChecksum());
+        assertEquals("process", decoded.getBpmnProcessId());
+        assertEquals(List.of("message", "message:with:colons"), decoded.getMessageBasedStartEventsMessages());
+        assertEquals(List.of("signal"), decoded.getSignalBasedStartEventsSignals());
+        assertEquals(2, decoded.getConnectables().size());
+        assertConnectable(manifest.getConnectables().get(0), decoded.getConnectables().get(0));
+        assertConnectable(manifest.getConnectables().get(1), decoded.getConnectables().get(1));
+        assertEquals(manifest.toCanonicalString(), decoded.toCanonicalString());
+
+    }
+
+    @Test
+    public void emptyManifestRoundTrip() {
+
+        final var manifest = new WiringManifest(
+                null,
+                "process",
+                List.of(),
+                List.of(),
+                List.of());
+
+        final var decoded = WiringManifest.fromCanonicalString(manifest.toCanonicalString());
+
+        assertNotNull(decoded);
+        assertNull(decoded.getResourceChecksum());
+        assertEquals(List.of(), decoded.getMessageBasedStartEventsMessages());
+        assertEquals(List.of(), decoded.getSignalBasedStartEventsSignals());
+        assertEquals(List.of(), decoded.getConnectables());
+
+    }
+
+    @Test
+    public void invalidCanonicalStrings() {
+
+        final var valid = new WiringManifest(
+                "checksum",
+                "process",
+                List.of(),
+                List.of(),
+                List.of(new Camunda7Connectable(
+                        "process",
+                        "1",
+                        "task",
+                        "taskDefinition",
+                        Camunda7Connectable.Type.EXTERNAL_TASK)))
+                .toCanonicalString();
+
+        assertNull(WiringManifest.fromCanonicalString(null));
+        assertNull(WiringManifest.fromCanonicalString(""));
+        // written by a future version
+        assertNull(WiringManifest.fromCanonicalString(valid.replace("#1:", "#2:")));
+        // unknown connectable type
+        assertNull(WiringManifest.fromCanonicalString(valid.replace("EXTERNAL_TASK", "EXTERNAL_TAS_")));
+        // truncated
+        assertNull(WiringManifest.fromCanonicalString(valid.substring(0, valid.length() - 5)));
+        // additional fields
+        assertNull(WiringManifest.fromCanonicalString(valid + "1:x"));
+
+    }
+
+    private static void assertConnectable(
+            final Camunda7Connectable expected,
+            final Camunda7Connectable actual) {
+
+        assertEquals(expected.getType(), actual.getType());
+        assertEquals(expected.getBpmnProcessId(), actual.getBpmnProcessId());
+        assertEquals(expected.getVersionInfo(), actual.getVersionInfo());
+        assertEquals(expected.getElementId(), actual.getElementId());
+        assertEquals(expected.getTaskDefinition(), actual.getTaskDefinition());
+
+    }
+
+}